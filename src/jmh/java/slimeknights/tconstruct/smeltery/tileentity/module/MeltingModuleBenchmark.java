@@ -0,0 +1,148 @@
+package slimeknights.tconstruct.smeltery.tileentity.module;
+
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.mantle.tileentity.MantleTileEntity;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipe;
+import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
+import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
+import slimeknights.tconstruct.test.BaseMcBenchmark;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks the melting recipe lookup when a slot changes, and a full heating pass over the melting inventory as run each smeltery tick.
+ * All mocks are stub only, as they are called far too often to record invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeltingModuleBenchmark {
+  /** Melting time for benchmark recipes, long enough that no item finishes melting during the benchmark */
+  private static final int TIME = Integer.MAX_VALUE / 10;
+
+  /** Shared world containing one melting recipe for each of the first few registered items */
+  @State(Scope.Thread)
+  public static class RecipeState extends BaseMcBenchmark {
+    /** Number of melting recipes in the recipe manager */
+    @Param({"100", "800"})
+    public int recipes;
+
+    List<Item> items;
+    MantleTileEntity parent;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+      items = new ArrayList<>(recipes);
+      Map<ResourceLocation,IRecipe<?>> recipeMap = new LinkedHashMap<>();
+      for (Item item : Registry.ITEM) {
+        if (item == Items.AIR) {
+          continue;
+        }
+        ResourceLocation id = TConstruct.getResource("benchmark/" + items.size());
+        recipeMap.put(id, new MeltingRecipe(id, "", Ingredient.fromItems(item), new FluidStack(Fluids.LAVA, 144), 500, TIME, Collections.emptyList()));
+        items.add(item);
+        if (items.size() == recipes) {
+          break;
+        }
+      }
+      RecipeManager manager = mock(RecipeManager.class, withSettings().stubOnly());
+      doReturn(recipeMap).when(manager).getRecipes(RecipeTypes.MELTING);
+      World world = mock(World.class, withSettings().stubOnly());
+      when(world.getRecipeManager()).thenReturn(manager);
+      // mark the world as client side so slot changes do not try sending packets
+      Field isRemote = World.class.getDeclaredField("isRemote");
+      isRemote.setAccessible(true);
+      isRemote.setBoolean(world, true);
+      parent = mock(MantleTileEntity.class, withSettings().stubOnly());
+      when(parent.getWorld()).thenReturn(world);
+      // clear the lookup built for the last parameters
+      RecipeCacheInvalidator.reload(false);
+    }
+  }
+
+  /** Single module cycling through items, so every change needs a new recipe */
+  @State(Scope.Thread)
+  public static class LookupState {
+    MeltingModule module;
+    ItemStack[] stacks;
+    int index = 0;
+
+    @Setup
+    public void setUp(RecipeState recipes) {
+      module = new MeltingModule(recipes.parent, recipe -> true, () -> 2, -1);
+      stacks = new ItemStack[recipes.items.size()];
+      for (int i = 0; i < stacks.length; i++) {
+        stacks[i] = new ItemStack(recipes.items.get(i));
+      }
+    }
+  }
+
+  /** Full melting inventory for a structure of the given size */
+  @State(Scope.Thread)
+  public static class HeatingState {
+    /** Number of slots, 9 for a minimal smeltery up to a max size foundry */
+    @Param({"9", "243", "12544"})
+    public int slots;
+
+    MeltingModuleInventory inventory;
+
+    @Setup
+    public void setUp(RecipeState recipes) {
+      SmelteryTank tank = new SmelteryTank(mock(ISmelteryTankHandler.class, withSettings().stubOnly()));
+      tank.setCapacity(Integer.MAX_VALUE);
+      inventory = new MeltingModuleInventory(recipes.parent, tank, () -> 2, slots);
+      for (int i = 0; i < slots; i++) {
+        inventory.setStackInSlot(i, new ItemStack(recipes.items.get(i % recipes.items.size())));
+      }
+    }
+  }
+
+  @Benchmark
+  public int findRecipe(LookupState state) {
+    state.module.setStack(state.stacks[state.index]);
+    state.index = (state.index + 1) % state.stacks.length;
+    return state.module.getRequiredTime();
+  }
+
+  @Benchmark
+  public void heatItems(HeatingState state) {
+    state.inventory.heatItems(1000);
+  }
+}
@@ -0,0 +1,76 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.CuboidFixture.Block;
+import slimeknights.tconstruct.test.BaseMcBenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks full and incremental structure detection for smelteries and foundries of various sizes.
+ * Each invocation toggles a single inner block before detecting, matching a player breaking or placing a block inside the structure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiblockCuboidBenchmark extends BaseMcBenchmark {
+  /** Inner width of the structure, 14 is the foundry limit */
+  @Param({"3", "7", "14"})
+  public int size;
+  /** Inner height of the structure, 64 is the foundry limit */
+  @Param({"4", "16", "64"})
+  public int height;
+
+  private CuboidFixture fixture;
+  private BlockPos master;
+  private BlockPos changed;
+  private MultiblockStructureData structure;
+  private boolean placed = false;
+
+  @Setup
+  public void setUp() {
+    fixture = new CuboidFixture(true, false, false, 64, 14);
+    BlockPos min = new BlockPos(0, 10, 0);
+    BlockPos max = new BlockPos(size + 1, 10 + height, size + 1);
+    fixture.buildWalls(min, max, true, false);
+    master = new BlockPos(size / 2 + 1, 11, 0);
+    changed = new BlockPos(size / 2 + 1, 10 + (height + 1) / 2, size / 2 + 1);
+    structure = fixture.cuboid.detectMultiblock(fixture.world, master, Direction.NORTH);
+    if (structure == null) {
+      throw new IllegalStateException("Failed to form benchmark structure: " + fixture.cuboid.getLastResult());
+    }
+  }
+
+  /** Toggles the changed position between air and a solid inner block */
+  private void toggle() {
+    placed = !placed;
+    fixture.set(changed, placed ? Block.INNER : null);
+  }
+
+  @Benchmark
+  public MultiblockStructureData detectMultiblock() {
+    toggle();
+    return fixture.cuboid.detectMultiblock(fixture.world, master, Direction.NORTH);
+  }
+
+  @Benchmark
+  public MultiblockStructureData updateMultiblock() {
+    toggle();
+    return fixture.cuboid.updateMultiblock(fixture.world, master, Direction.NORTH, structure, changed);
+  }
+}
@@ -0,0 +1,97 @@
+package slimeknights.tconstruct.smeltery.tileentity.tank;
+
+import net.minecraft.fluid.Fluids;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import slimeknights.tconstruct.test.BaseMcBenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Benchmarks filling and draining the smeltery tank with various numbers of fluids inside.
+ * Each benchmark drains what it fills, so the tank contents stay the same between invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmelteryTankBenchmark extends BaseMcBenchmark {
+  /** Number of distinct fluids in the tank */
+  @Param({"1", "8", "32"})
+  public int fluids;
+
+  private SmelteryTank tank;
+  /** Fluid already in the tank, at the top */
+  private FluidStack existing;
+  /** Fluid not in the tank */
+  private FluidStack added;
+  /** One small stack of every fluid in the tank */
+  private List<FluidStack> all;
+
+  /** Creates a water stack made distinct by NBT */
+  private static FluidStack create(String name, int amount) {
+    FluidStack stack = new FluidStack(Fluids.WATER, amount);
+    CompoundNBT nbt = new CompoundNBT();
+    nbt.putString("benchmark", name);
+    stack.setTag(nbt);
+    return stack;
+  }
+
+  @Setup
+  public void setUp() {
+    // stub only, as notifications are far too frequent to record
+    tank = new SmelteryTank(mock(ISmelteryTankHandler.class, withSettings().stubOnly()));
+    tank.setCapacity(Integer.MAX_VALUE);
+    all = new ArrayList<>(fluids);
+    for (int i = 0; i < fluids; i++) {
+      tank.fill(create(Integer.toString(i), 1000), FluidAction.EXECUTE);
+      all.add(create(Integer.toString(i), 10));
+    }
+    existing = create(Integer.toString(fluids - 1), 144);
+    added = create("added", 144);
+  }
+
+  @Benchmark
+  public FluidStack fillDrainExisting() {
+    tank.fill(existing.copy(), FluidAction.EXECUTE);
+    return tank.drain(existing, FluidAction.EXECUTE);
+  }
+
+  @Benchmark
+  public FluidStack fillDrainNew() {
+    tank.fill(added.copy(), FluidAction.EXECUTE);
+    return tank.drain(added, FluidAction.EXECUTE);
+  }
+
+  @Benchmark
+  public int fillAllDrain() {
+    List<FluidStack> copies = new ArrayList<>(all.size());
+    for (FluidStack stack : all) {
+      copies.add(stack.copy());
+    }
+    int filled = tank.fillAll(copies);
+    for (FluidStack stack : all) {
+      tank.drain(stack, FluidAction.EXECUTE);
+    }
+    return filled;
+  }
+}
@@ -0,0 +1,18 @@
+package slimeknights.tconstruct.test;
+
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraftforge.fml.ModContainer;
+import net.minecraftforge.fml.ModLoadingContext;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Base class for benchmark states, sets up vanilla registries the same way as {@link BaseMcTest}
+ */
+public abstract class BaseMcBenchmark {
+  static {
+    Bootstrap.register();
+    ModContainer modContainer = mock(ModContainer.class);
+    ModLoadingContext.get().setActiveContainer(modContainer, null);
+  }
+}
@@ -43,6 +43,12 @@ public class Config {
     public final ConfigValue<Integer> smelteryNuggetsPerOre;
     public final ConfigValue<Integer> foundryNuggetsPerOre;
 
+    // smeltery
+    public final BooleanValue eventStructureChecks;
+    public final BooleanValue faucetBulkTransfer;
+    public final IntValue faucetBulkAmount;
+    public final IntValue entityMeltingBudget;
+
     public final BooleanValue generateCobalt;
     public final ConfigValue<Integer> veinCountCobalt;
 
@@ -169,6 +175,33 @@ public class Config {
 
       builder.pop(2);
 
+      builder.comment("Options related to smeltery performance, mainly useful for servers with many smelteries").push("smeltery");
+
+      this.eventStructureChecks = builder
+        .comment("If true, smelteries and foundries validate their structure from block updates instead of periodically checking blocks inside and above the structure.",
+                 "Blocks changed without a block update, such as by some world editing tools, will not be noticed until the structure is next rebuilt, so this is off by default.")
+        .translation("tconstruct.configgui.eventStructureChecks")
+        .define("eventStructureChecks", false);
+
+      this.faucetBulkTransfer = builder
+        .comment("If true, faucets pour each batch of fluid into the output in a single transfer instead of a small amount each tick.",
+                 "Reduces the cost of automated casting, but the pour is no longer animated between batches and the rendered fluid only updates when the faucet starts pouring.")
+        .translation("tconstruct.configgui.faucetBulkTransfer")
+        .define("faucetBulkTransfer", false);
+
+      this.faucetBulkAmount = builder
+        .comment("Maximum amount of fluid in mb transferred in a single batch when faucetBulkTransfer is enabled. Batches are rounded down to whole ingots when possible.")
+        .translation("tconstruct.configgui.faucetBulkAmount")
+        .defineInRange("faucetBulkAmount", 1296, 144, 16200);
+
+      this.entityMeltingBudget = builder
+        .comment("Maximum number of living entities a single smeltery or foundry will damage each tick. If more entities are inside, the remaining entities are handled on later ticks in turn.",
+                 "Set to 0 to damage all entities every tick.")
+        .translation("tconstruct.configgui.entityMeltingBudget")
+        .defineInRange("entityMeltingBudget", 0, 0, 1024);
+
+      builder.pop();
+
       builder.comment(
         "Options related to loot table injections. Note some of the changes are done via global loot managers, these only control injecting loot into loot pools",
         "If your modpack makes extensive loot table changes, many of these may be automatically disabled. You can also manually set up tables for more control.").push("loot");
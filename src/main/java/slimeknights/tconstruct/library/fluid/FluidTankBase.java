@@ -6,6 +6,7 @@ import net.minecraftforge.fluids.capability.templates.FluidTank;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 
 public class FluidTankBase<T extends MantleTileEntity> extends FluidTank {
 
@@ -25,6 +26,7 @@ public class FluidTankBase<T extends MantleTileEntity> extends FluidTank {
     parent.markDirty();
     World world = parent.getWorld();
     if(!world.isRemote) {
+      TickCostTracker.packet(parent);
       TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(parent.getPos(), this.getFluid()), (ServerWorld) world, parent.getPos());
     }
   }
@@ -20,6 +20,7 @@ import slimeknights.tconstruct.library.materials.stats.MaterialStatsManager;
 import slimeknights.tconstruct.library.materials.stats.UpdateMaterialStatsPacket;
 import slimeknights.tconstruct.library.materials.traits.MaterialTraitsManager;
 import slimeknights.tconstruct.library.materials.traits.UpdateMaterialTraitsPacket;
+import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.tools.stats.ExtraMaterialStats;
 import slimeknights.tconstruct.tools.stats.HandleMaterialStats;
 import slimeknights.tconstruct.tools.stats.HeadMaterialStats;
@@ -74,6 +75,8 @@ public final class MaterialRegistry {
       checkAllLoaded();
     });
     materialStatsManager = new MaterialStatsManager(() -> {
+      // cached tool stats are built from material stats
+      ToolDefinition.clearStatsCache();
       statsLoaded = true;
       checkAllLoaded();
     });
@@ -92,6 +95,7 @@ public final class MaterialRegistry {
 
   @VisibleForTesting
   MaterialRegistry(IMaterialRegistry registry) {
+    ToolDefinition.clearStatsCache();
     this.registry = registry;
     this.materialManager = null;
     this.materialStatsManager = null;
@@ -65,6 +65,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 /**
@@ -84,6 +86,8 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
 
   /** Priority of modfiers by default */
   public static final int DEFAULT_PRIORITY = 100;
+  /** Next index to assign to a modifier */
+  private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
 
   /** Display color for all text for this modifier */
   @Getter
@@ -92,6 +96,15 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
   /** Registry name of this modifier, null before fully registered */
   @Getter @Nullable
   private ModifierId registryName;
+  /** Cached string form of the registry name, as stored in NBT */
+  @Nullable
+  private String idString;
+  /**
+   * Dense runtime index of this modifier, assigned on construction. Used to store modifier levels in arrays.
+   * Not stable between game launches, so never save this to NBT or sync it to the client.
+   */
+  @Getter
+  private final int index = NEXT_INDEX.getAndIncrement();
 
   /** Cached key used for translations */
   @Nullable
@@ -105,6 +118,17 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
   /** Cached text component for description */
   @Nullable
   private ITextComponent description;
+  /** Hooks this modifier overrides, other hooks are skipped when iterating a tool's modifiers */
+  private final Set<ModifierHook> hooks = ModifierHook.findOverrides(getClass());
+
+  /**
+   * Checks if this modifier overrides the given hook
+   * @param hook  Hook to check
+   * @return  True if the hook is overridden
+   */
+  public final boolean hasHook(ModifierHook hook) {
+    return hooks.contains(hook);
+  }
 
   /**
    * Override this method to make your modifier run earlier or later.
@@ -130,6 +154,7 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
       LogManager.getLogger().info("Potentially Dangerous alternative prefix for name `{}`, expected `{}`. This could be a intended override, but in most cases indicates a broken mod.", name, activeMod);
     }
     this.registryName = new ModifierId(name);
+    this.idString = registryName.toString();
     return this;
   }
 
@@ -141,6 +166,14 @@ public class Modifier implements IForgeRegistryEntry<Modifier> {
     return Objects.requireNonNull(registryName, "Modifier has null registry name");
   }
 
+  /**
+   * Gets the modifier ID as a string, matching the form stored in NBT. Cached, so preferred over calling toString on {@link #getId()}
+   * @return  Modifier ID string
+   */
+  public String getIdString() {
+    return Objects.requireNonNull(idString, "Modifier has null registry name");
+  }
+
   @Override
   public Class<Modifier> getRegistryType() {
     return Modifier.class;
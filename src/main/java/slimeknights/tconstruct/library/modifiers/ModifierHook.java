@@ -0,0 +1,87 @@
+package slimeknights.tconstruct.library.modifiers;
+
+import slimeknights.tconstruct.library.tools.nbt.IToolContext;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hooks on {@link Modifier} called often enough that tools keep a list of the modifiers overriding each of them.
+ * Use {@link IToolContext#getModifierList(ModifierHook)} to only visit modifiers that change the hook's default behavior.
+ */
+public enum ModifierHook {
+  // general
+  DAMAGE_TOOL("onDamageTool"),
+  INVENTORY_TICK("onInventoryTick"),
+  PROCESS_LOOT("processLoot"),
+  ATTRIBUTES("addAttributes"),
+  // interaction, deprecated overloads are called by the new ones
+  BEFORE_BLOCK_USE("beforeBlockUse"),
+  AFTER_BLOCK_USE("afterBlockUse"),
+  BEFORE_ENTITY_USE("beforeEntityUse", "onEntityUseFirst"),
+  AFTER_ENTITY_USE("afterEntityUse", "onEntityUse"),
+  TOOL_USE("onToolUse"),
+  STOPPED_USING("onStoppedUsing"),
+  FINISH_USING("onFinishUsing"),
+  USE_DURATION("getUseDuration"),
+  USE_ACTION("getUseAction"),
+  // harvest
+  BREAK_SPEED("onBreakSpeed"),
+  HARVEST_ENCHANTMENTS("applyHarvestEnchantments"),
+  LOOTING("getLootingValue"),
+  REMOVE_BLOCK("removeBlock"),
+  AFTER_BLOCK_BREAK("afterBlockBreak"),
+  FINISH_BREAKING_BLOCKS("finishBreakingBlocks"),
+  // attack
+  ENTITY_DAMAGE("getEntityDamage"),
+  BEFORE_ENTITY_HIT("beforeEntityHit"),
+  AFTER_ENTITY_HIT("afterEntityHit"),
+  FAILED_ENTITY_HIT("failedEntityHit"),
+  // armor
+  PROTECTION("getProtectionModifier"),
+  SOURCE_BLOCKED("isSourceBlocked"),
+  ATTACKED("onAttacked"),
+  ATTACK_WITH_ARMOR("attackWithArmor"),
+  // equipment
+  UNEQUIP("onUnequip"),
+  EQUIP("onEquip"),
+  EQUIPMENT_CHANGE("onEquipmentChange"),
+  // display
+  DAMAGE_PERCENTAGE("getDamagePercentage"),
+  SHOW_DURABILITY_BAR("showDurabilityBar"),
+  DURABILITY_RGB("getDurabilityRGB");
+
+  /** Names of all methods implementing this hook, overriding any of them means the modifier uses the hook */
+  private final String[] methods;
+
+  ModifierHook(String... methods) {
+    this.methods = methods;
+  }
+
+  /**
+   * Finds all hooks overridden by the given modifier class.
+   * Methods are matched by name, so an unrelated method sharing a hook name just causes the modifier to be visited needlessly.
+   * @param clazz  Modifier class
+   * @return  Set of hooks overridden by the class or any of its parents
+   */
+  static Set<ModifierHook> findOverrides(Class<?> clazz) {
+    Set<String> names = new HashSet<>();
+    for (Class<?> current = clazz; current != Modifier.class && current != null; current = current.getSuperclass()) {
+      for (Method method : current.getDeclaredMethods()) {
+        names.add(method.getName());
+      }
+    }
+    Set<ModifierHook> hooks = EnumSet.noneOf(ModifierHook.class);
+    for (ModifierHook hook : values()) {
+      for (String method : hook.methods) {
+        if (names.contains(method)) {
+          hooks.add(hook);
+          break;
+        }
+      }
+    }
+    return hooks;
+  }
+}
@@ -130,7 +130,7 @@ public class TankModifier extends Modifier {
     if (key == null) {
       return true;
     }
-    return getId().toString().equals(volatileData.getString(key));
+    return getIdString().equals(volatileData.getString(key));
   }
 
   /** Checks if the given modifier is the owner of the tank */
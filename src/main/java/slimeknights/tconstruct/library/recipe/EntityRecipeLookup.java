@@ -0,0 +1,114 @@
+package slimeknights.tconstruct.library.recipe;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.entity.EntityType;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraftforge.registries.ForgeRegistries;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.severing.SeveringRecipe;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup for recipes keyed by entity type, covering entity melting and severing.
+ * The index is built for every registered entity type at once after each reload, so types without a recipe never scan the recipe list.
+ * As the index is immutable and swapped out as a whole, it is safe to read from both the client and server thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EntityRecipeLookup {
+  /** Current index, null if it needs to be rebuilt from the recipe manager */
+  @Nullable
+  private static volatile Index INDEX = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEX = null);
+  }
+
+  /**
+   * Gets the index, building it if needed
+   * @param manager  Recipe manager
+   * @return  Index
+   */
+  private static Index getIndex(RecipeManager manager) {
+    Index index = INDEX;
+    if (index == null) {
+      index = Index.build(manager);
+      INDEX = index;
+    }
+    return index;
+  }
+
+  /**
+   * Gets the entity melting recipe for the given type
+   * @param manager  Recipe manager
+   * @param type     Entity type
+   * @return  Recipe, or null if no recipe for this type
+   */
+  @Nullable
+  public static EntityMeltingRecipe findMeltingRecipe(RecipeManager manager, EntityType<?> type) {
+    return getIndex(manager).melting.get(type);
+  }
+
+  /**
+   * Gets all severing recipes for the given type
+   * @param manager  Recipe manager
+   * @param type     Entity type
+   * @return  Recipes in recipe manager order, empty if no recipes for this type
+   */
+  public static List<SeveringRecipe> findSeveringRecipes(RecipeManager manager, EntityType<?> type) {
+    return getIndex(manager).severing.getOrDefault(type, Collections.emptyList());
+  }
+
+  /** Immutable index data, swapped out as a whole on reload */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Index {
+    /** First matching melting recipe for each entity type, types without a recipe are absent */
+    private final Map<EntityType<?>,EntityMeltingRecipe> melting;
+    /** All matching severing recipes for each entity type, types without a recipe are absent */
+    private final Map<EntityType<?>,List<SeveringRecipe>> severing;
+
+    /**
+     * Builds a new index from the given recipe manager
+     * @param manager  Recipe manager
+     * @return  Index
+     */
+    private static Index build(RecipeManager manager) {
+      List<EntityMeltingRecipe> meltingRecipes = RecipeHelper.getRecipes(manager, RecipeTypes.ENTITY_MELTING, EntityMeltingRecipe.class);
+      List<SeveringRecipe> severingRecipes = RecipeHelper.getRecipes(manager, RecipeTypes.SEVERING, SeveringRecipe.class);
+      Map<EntityType<?>,EntityMeltingRecipe> melting = new IdentityHashMap<>();
+      Map<EntityType<?>,List<SeveringRecipe>> severing = new IdentityHashMap<>();
+      for (EntityType<?> type : ForgeRegistries.ENTITIES.getValues()) {
+        // melting only uses the first match
+        for (EntityMeltingRecipe recipe : meltingRecipes) {
+          if (recipe.matches(type)) {
+            melting.put(type, recipe);
+            break;
+          }
+        }
+        // severing uses all matches
+        ImmutableList.Builder<SeveringRecipe> builder = null;
+        for (SeveringRecipe recipe : severingRecipes) {
+          if (recipe.matches(type)) {
+            if (builder == null) {
+              builder = ImmutableList.builder();
+            }
+            builder.add(recipe);
+          }
+        }
+        if (builder != null) {
+          severing.put(type, builder.build());
+        }
+      }
+      return new Index(Collections.unmodifiableMap(melting), Collections.unmodifiableMap(severing));
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup indexing alloy recipes by the fluids used in their inputs, so alloy tanks only test recipes using a fluid they contain
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlloyRecipeLookup {
+  /** Current recipes for each fluid, null if it needs to be rebuilt from the recipe manager */
+  @Nullable
+  private static volatile Map<Fluid,List<AlloyRecipe>> BY_FLUID = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> BY_FLUID = null);
+  }
+
+  /**
+   * Gets the index, building it if needed
+   * @param manager  Recipe manager
+   * @return  Map from fluid to recipes using that fluid
+   */
+  private static Map<Fluid,List<AlloyRecipe>> getIndex(RecipeManager manager) {
+    Map<Fluid,List<AlloyRecipe>> index = BY_FLUID;
+    if (index == null) {
+      Map<Fluid,List<AlloyRecipe>> builder = new HashMap<>();
+      for (AlloyRecipe recipe : RecipeHelper.getRecipes(manager, RecipeTypes.ALLOYING, AlloyRecipe.class)) {
+        for (List<FluidStack> input : recipe.getDisplayInputs()) {
+          for (FluidStack fluid : input) {
+            List<AlloyRecipe> list = builder.computeIfAbsent(fluid.getFluid(), f -> new ArrayList<>());
+            // a recipe may list the same fluid in multiple inputs
+            if (list.isEmpty() || list.get(list.size() - 1) != recipe) {
+              list.add(recipe);
+            }
+          }
+        }
+      }
+      builder.replaceAll((fluid, list) -> ImmutableList.copyOf(list));
+      index = builder;
+      BY_FLUID = index;
+    }
+    return index;
+  }
+
+  /**
+   * Gets all recipes using the given fluid in any input
+   * @param manager  Recipe manager
+   * @param fluid    Fluid to check
+   * @return  List of recipes, in recipe manager order
+   */
+  public static List<AlloyRecipe> getRecipes(RecipeManager manager, Fluid fluid) {
+    return getIndex(manager).getOrDefault(fluid, Collections.emptyList());
+  }
+}
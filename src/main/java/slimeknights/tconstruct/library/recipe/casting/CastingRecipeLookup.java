@@ -0,0 +1,261 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.container.ContainerFillingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.CompositeCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingLookup;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialFluidRecipe;
+import slimeknights.tconstruct.smeltery.recipe.ICastingInventory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lookup indexing casting recipes by cast item, then by fluid, so casting tables and basins do not test every recipe on each fill.
+ * Recipes that cannot be indexed on either level are kept as fallbacks for that level, preserving recipe manager order.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CastingRecipeLookup {
+  /** Casting recipe types indexed by this lookup */
+  private static final List<IRecipeType<ICastingRecipe>> TYPES = ImmutableList.of(RecipeTypes.CASTING_TABLE, RecipeTypes.CASTING_BASIN);
+
+  /** Index for each casting recipe type, null if it needs to be rebuilt from the recipe manager. Replaced with a copy when adding other types */
+  @Nullable
+  private static volatile Map<IRecipeType<?>,CastIndex> INDEXES = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEXES = null);
+  }
+
+  /**
+   * Gets the index for every casting type, building them if needed
+   * @param manager  Recipe manager
+   * @return  Map from recipe type to index
+   */
+  private static Map<IRecipeType<?>,CastIndex> getIndexes(RecipeManager manager) {
+    Map<IRecipeType<?>,CastIndex> indexes = INDEXES;
+    if (indexes == null) {
+      ImmutableMap.Builder<IRecipeType<?>,CastIndex> builder = ImmutableMap.builder();
+      for (IRecipeType<ICastingRecipe> type : TYPES) {
+        builder.put(type, CastIndex.build(RecipeHelper.getRecipes(manager, type, ICastingRecipe.class)));
+      }
+      indexes = builder.build();
+      INDEXES = indexes;
+    }
+    return indexes;
+  }
+
+  /**
+   * Gets all recipes that may match the given cast and fluid, in recipe manager order
+   * @param world  World instance
+   * @param type   Casting recipe type
+   * @param cast   Cast item, {@link Items#AIR} for no cast
+   * @param fluid  Fluid in the casting inventory
+   * @return  List of candidate recipes
+   */
+  public static List<ICastingRecipe> getCandidates(World world, IRecipeType<ICastingRecipe> type, Item cast, Fluid fluid) {
+    RecipeManager manager = world.getRecipeManager();
+    Map<IRecipeType<?>,CastIndex> indexes = getIndexes(manager);
+    CastIndex index = indexes.get(type);
+    // types added by other mods are only known on first lookup, so add them to a copy of the snapshot
+    if (index == null) {
+      index = CastIndex.build(RecipeHelper.getRecipes(manager, type, ICastingRecipe.class));
+      INDEXES = ImmutableMap.<IRecipeType<?>,CastIndex>builder().putAll(indexes).put(type, index).build();
+    }
+    return index.getCandidates(cast, fluid);
+  }
+
+  /**
+   * Finds the first casting recipe matching the given inventory
+   * @param world      World instance
+   * @param type       Casting recipe type
+   * @param inventory  Casting inventory
+   * @return  Matching recipe, or null if no match
+   */
+  @Nullable
+  public static ICastingRecipe findRecipe(World world, IRecipeType<ICastingRecipe> type, ICastingInventory inventory) {
+    for (ICastingRecipe recipe : getCandidates(world, type, inventory.getStack().getItem(), inventory.getFluid())) {
+      if (recipe.matches(inventory, world)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+
+  /* Key helpers */
+
+  /**
+   * Gets the cast items matched by the given recipe
+   * @param recipe  Recipe
+   * @return  Items, or null if the recipe may match any cast
+   */
+  @Nullable
+  private static Collection<Item> getCasts(ICastingRecipe recipe) {
+    if (recipe instanceof ContainerFillingRecipe) {
+      return Collections.singletonList(((ContainerFillingRecipe)recipe).getContainer());
+    }
+    if (recipe instanceof AbstractCastingRecipe) {
+      Ingredient cast = ((AbstractCastingRecipe)recipe).getCast();
+      if (cast.isSimple()) {
+        ItemStack[] stacks = cast.getMatchingStacks();
+        // an empty ingredient matches only the empty stack
+        if (stacks.length == 0) {
+          return Collections.singletonList(Items.AIR);
+        }
+        List<Item> items = new ArrayList<>(stacks.length);
+        for (ItemStack stack : stacks) {
+          items.add(stack.getItem());
+        }
+        return items;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the fluids matched by the given recipe
+   * @param recipe  Recipe
+   * @return  Fluids, or null if the recipe may match any fluid
+   */
+  @Nullable
+  private static Collection<Fluid> getFluids(ICastingRecipe recipe) {
+    if (recipe instanceof ItemCastingRecipe) {
+      return toFluids(((ItemCastingRecipe)recipe).getFluid().getFluids());
+    }
+    if (recipe instanceof MaterialCastingRecipe) {
+      Collection<MaterialFluidRecipe> fluidRecipes = recipe instanceof CompositeCastingRecipe
+                                                     ? MaterialCastingLookup.getAllCompositeFluids()
+                                                     : MaterialCastingLookup.getAllCastingFluids();
+      List<Fluid> fluids = new ArrayList<>();
+      for (MaterialFluidRecipe fluidRecipe : fluidRecipes) {
+        fluids.addAll(toFluids(fluidRecipe.getFluids()));
+      }
+      return fluids;
+    }
+    return null;
+  }
+
+  /** Maps a list of fluid stacks to fluids */
+  private static List<Fluid> toFluids(List<FluidStack> stacks) {
+    List<Fluid> fluids = new ArrayList<>(stacks.size());
+    for (FluidStack stack : stacks) {
+      fluids.add(stack.getFluid());
+    }
+    return fluids;
+  }
+
+  /**
+   * Indexes the recipes by the given key, adding recipes with no keys to every list
+   * @param recipes   Recipes in recipe manager order
+   * @param keys      Function returning the keys of a recipe, or null if it matches all keys
+   * @param fallback  List to fill with recipes that match any key
+   * @param <K>  Key type
+   * @return  Map from key to ordered candidate recipes
+   */
+  private static <K> Map<K,List<ICastingRecipe>> index(List<ICastingRecipe> recipes, Function<ICastingRecipe,Collection<K>> keys, List<ICastingRecipe> fallback) {
+    // first pass: find all keys so fallback recipes are added to each key in order
+    List<Collection<K>> recipeKeys = new ArrayList<>(recipes.size());
+    Map<K,List<ICastingRecipe>> map = new HashMap<>();
+    for (ICastingRecipe recipe : recipes) {
+      Collection<K> recipeKey = keys.apply(recipe);
+      recipeKeys.add(recipeKey);
+      if (recipeKey != null) {
+        for (K key : recipeKey) {
+          map.computeIfAbsent(key, k -> new ArrayList<>());
+        }
+      }
+    }
+    // second pass: add to all relevant lists
+    for (int i = 0; i < recipes.size(); i++) {
+      ICastingRecipe recipe = recipes.get(i);
+      Collection<K> recipeKey = recipeKeys.get(i);
+      if (recipeKey == null) {
+        fallback.add(recipe);
+        for (List<ICastingRecipe> list : map.values()) {
+          list.add(recipe);
+        }
+      } else {
+        for (K key : recipeKey) {
+          List<ICastingRecipe> list = map.get(key);
+          if (list.isEmpty() || list.get(list.size() - 1) != recipe) {
+            list.add(recipe);
+          }
+        }
+      }
+    }
+    return map;
+  }
+
+
+  /* Index levels */
+
+  /** First level of the index, mapping cast items to fluid indexes */
+  private static class CastIndex {
+    private final Map<Item,FluidIndex> byCast;
+    private final FluidIndex fallback;
+
+    private CastIndex(Map<Item,FluidIndex> byCast, FluidIndex fallback) {
+      this.byCast = byCast;
+      this.fallback = fallback;
+    }
+
+    /** Gets the candidates for the given cast and fluid */
+    private List<ICastingRecipe> getCandidates(Item cast, Fluid fluid) {
+      return byCast.getOrDefault(cast, fallback).getCandidates(fluid);
+    }
+
+    /** Builds the index from the given recipe list */
+    private static CastIndex build(List<ICastingRecipe> recipes) {
+      List<ICastingRecipe> fallback = new ArrayList<>();
+      Map<Item,FluidIndex> byCast = new HashMap<>();
+      index(recipes, CastingRecipeLookup::getCasts, fallback).forEach((item, list) -> byCast.put(item, FluidIndex.build(list)));
+      return new CastIndex(byCast, FluidIndex.build(fallback));
+    }
+  }
+
+  /** Second level of the index, mapping fluids to recipes for a single cast */
+  private static class FluidIndex {
+    private final Map<Fluid,List<ICastingRecipe>> byFluid;
+    private final List<ICastingRecipe> fallback;
+
+    private FluidIndex(Map<Fluid,List<ICastingRecipe>> byFluid, List<ICastingRecipe> fallback) {
+      this.byFluid = byFluid;
+      this.fallback = fallback;
+    }
+
+    /** Gets the candidates for the given fluid */
+    private List<ICastingRecipe> getCandidates(Fluid fluid) {
+      return byFluid.getOrDefault(fluid, fallback);
+    }
+
+    /** Builds the index from the given recipe list */
+    private static FluidIndex build(List<ICastingRecipe> recipes) {
+      List<ICastingRecipe> fallback = new ArrayList<>();
+      Map<Fluid,List<ICastingRecipe>> byFluid = index(recipes, CastingRecipeLookup::getFluids, fallback);
+      return new FluidIndex(byFluid, fallback.isEmpty() ? Collections.emptyList() : fallback);
+    }
+  }
+}
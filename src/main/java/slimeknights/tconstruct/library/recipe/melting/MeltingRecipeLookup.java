@@ -0,0 +1,177 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingLookup;
+import slimeknights.tconstruct.library.tools.part.IMaterialItem;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup indexing melting recipes by input item, to avoid testing every melting recipe when a slot changes.
+ * Recipes that cannot be indexed by item (NBT ingredients or custom recipe types) are kept in a fallback list tested for every item.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeltingRecipeLookup {
+  /** Current index, null if it needs to be rebuilt from the recipe manager */
+  @Nullable
+  private static volatile Index INDEX = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEX = null);
+  }
+
+  /**
+   * Gets the index, building it if needed
+   * @param manager  Recipe manager
+   * @return  Index
+   */
+  private static Index getIndex(RecipeManager manager) {
+    Index index = INDEX;
+    if (index == null) {
+      index = Index.build(RecipeHelper.getRecipes(manager, RecipeTypes.MELTING, IMeltingRecipe.class));
+      INDEX = index;
+    }
+    return index;
+  }
+
+  /**
+   * Gets all recipes that may match the given item, in recipe manager order
+   * @param manager  Recipe manager
+   * @param item     Item to check
+   * @return  List of candidate recipes
+   */
+  public static List<IMeltingRecipe> getCandidates(RecipeManager manager, Item item) {
+    return getIndex(manager).getCandidates(item);
+  }
+
+  /**
+   * Finds the first melting recipe matching the given inventory
+   * @param inventory  Inventory to check
+   * @param world      World instance
+   * @return  Matching recipe, or null if no match
+   */
+  @Nullable
+  public static IMeltingRecipe findRecipe(IMeltingInventory inventory, World world) {
+    ItemStack stack = inventory.getStack();
+    if (stack.isEmpty()) {
+      return null;
+    }
+    for (IMeltingRecipe recipe : getCandidates(world.getRecipeManager(), stack.getItem())) {
+      if (recipe.matches(inventory, world)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+  /** Immutable index data, swapped out as a whole on reload */
+  private static class Index {
+    /** Recipes that may match each item, including the fallback recipes */
+    private final Map<Item,List<IMeltingRecipe>> byItem;
+    /** Recipes that may match any item */
+    private final List<IMeltingRecipe> fallback;
+
+    private Index(Map<Item,List<IMeltingRecipe>> byItem, List<IMeltingRecipe> fallback) {
+      this.byItem = byItem;
+      this.fallback = fallback;
+    }
+
+    /** Gets the candidates for the given item */
+    private List<IMeltingRecipe> getCandidates(Item item) {
+      return byItem.getOrDefault(item, fallback);
+    }
+
+    /**
+     * Gets the items matched by the given recipe
+     * @param recipe  Recipe to check
+     * @return  List of items, or null if the recipe cannot be indexed by item
+     */
+    @Nullable
+    private static List<Item> getItems(IMeltingRecipe recipe) {
+      // material melting matches any item with a part cost
+      if (recipe instanceof MaterialMeltingRecipe) {
+        List<Item> items = new ArrayList<>();
+        for (Object2IntMap.Entry<IMaterialItem> entry : MaterialCastingLookup.getAllItemCosts()) {
+          items.add(entry.getKey().asItem());
+        }
+        return items;
+      }
+      // standard melting only checks the ingredient, simple ingredients do not check NBT
+      if (recipe instanceof MeltingRecipe) {
+        List<Ingredient> ingredients = recipe.getIngredients();
+        if (ingredients.size() == 1) {
+          Ingredient ingredient = ingredients.get(0);
+          if (ingredient.isSimple()) {
+            List<Item> items = new ArrayList<>();
+            for (ItemStack stack : ingredient.getMatchingStacks()) {
+              items.add(stack.getItem());
+            }
+            return items;
+          }
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Builds a new index from the given recipes
+     * @param recipes  Recipe list, in recipe manager order
+     * @return  Index
+     */
+    private static Index build(List<IMeltingRecipe> recipes) {
+      // first pass: find the items for each recipe, so fallback recipes can be added to each item in order
+      List<List<Item>> recipeItems = new ArrayList<>(recipes.size());
+      Map<Item,List<IMeltingRecipe>> byItem = new HashMap<>();
+      for (IMeltingRecipe recipe : recipes) {
+        List<Item> items = getItems(recipe);
+        recipeItems.add(items);
+        if (items != null) {
+          for (Item item : items) {
+            byItem.computeIfAbsent(item, i -> new ArrayList<>());
+          }
+        }
+      }
+
+      // second pass: add each recipe to all relevant lists, preserving the original order
+      ImmutableList.Builder<IMeltingRecipe> fallback = ImmutableList.builder();
+      Set<Item> allItems = byItem.keySet();
+      for (int i = 0; i < recipes.size(); i++) {
+        IMeltingRecipe recipe = recipes.get(i);
+        List<Item> items = recipeItems.get(i);
+        if (items == null) {
+          fallback.add(recipe);
+          for (Item item : allItems) {
+            byItem.get(item).add(recipe);
+          }
+        } else {
+          for (Item item : items) {
+            List<IMeltingRecipe> list = byItem.get(item);
+            // ingredients may list the same item more than once
+            if (list.isEmpty() || list.get(list.size() - 1) != recipe) {
+              list.add(recipe);
+            }
+          }
+        }
+      }
+      byItem.replaceAll((item, list) -> Collections.unmodifiableList(list));
+      return new Index(byItem, fallback.build());
+    }
+  }
+}
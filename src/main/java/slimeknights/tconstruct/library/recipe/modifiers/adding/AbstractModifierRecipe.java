@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import lombok.Getter;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraft.network.PacketBuffer;
@@ -28,6 +29,7 @@ import slimeknights.tconstruct.library.utils.JsonUtils;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -102,6 +104,25 @@ public abstract class AbstractModifierRecipe implements ITinkerStationRecipe, ID
     return ItemStack.EMPTY;
   }
 
+  /**
+   * Gets the items matched by the given ingredient
+   * @param ingredient  Ingredient
+   * @return  List of items, or null if the ingredient is not simple
+   */
+  @Nullable
+  protected static List<Item> getItems(Ingredient ingredient) {
+    if (!ingredient.isSimple()) {
+      return null;
+    }
+    return Arrays.stream(ingredient.getMatchingStacks()).map(ItemStack::getItem).collect(Collectors.toList());
+  }
+
+  @Nullable
+  @Override
+  public Collection<Item> getTinkerableItems() {
+    return getItems(toolRequirement);
+  }
+
 
   /* JEI display */
   /** Cache of input items shared between result and input */
@@ -3,6 +3,7 @@ package slimeknights.tconstruct.library.recipe.modifiers.adding;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipeSerializer;
 import net.minecraft.item.crafting.Ingredient;
@@ -29,6 +30,7 @@ import slimeknights.tconstruct.tools.TinkerModifiers;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -65,6 +67,12 @@ public class IncrementalModifierRecipe extends AbstractModifierRecipe {
     ModifierRecipeLookup.setNeededPerLevel(result.getModifier(), neededPerLevel);
   }
 
+  @Nullable
+  @Override
+  public Collection<Item> getInputItems() {
+    return getItems(input);
+  }
+
   @Override
   public boolean matches(ITinkerStationInventory inv, World world) {
     // ensure this modifier can be applied
@@ -2,6 +2,7 @@ package slimeknights.tconstruct.library.recipe.modifiers.adding;
 
 import com.google.common.collect.ImmutableList;
 import com.google.gson.JsonObject;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipeSerializer;
 import net.minecraft.item.crafting.Ingredient;
@@ -23,8 +24,12 @@ import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
 import javax.annotation.Nullable;
+import java.lang.reflect.Field;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -97,6 +102,59 @@ public class ModifierRecipe extends AbstractModifierRecipe {
     return -1;
   }
 
+  /* Lookup */
+
+  /** Field holding the ingredient of a sized ingredient, as it is not exposed. Null if the field could not be found */
+  @Nullable
+  private static final Field SIZED_INGREDIENT;
+
+  static {
+    Field field = null;
+    try {
+      field = SizedIngredient.class.getDeclaredField("ingredient");
+      field.setAccessible(true);
+    } catch (NoSuchFieldException | SecurityException ex) {
+      TConstruct.LOG.error("Failed to find sized ingredient field, modifier recipes will not be indexed by input", ex);
+    }
+    SIZED_INGREDIENT = field;
+  }
+
+  /**
+   * Gets the ingredient wrapped by the given sized ingredient
+   * @param ingredient  Sized ingredient
+   * @return  Wrapped ingredient, or null if it cannot be accessed
+   */
+  @Nullable
+  private static Ingredient getIngredient(SizedIngredient ingredient) {
+    if (SIZED_INGREDIENT != null) {
+      try {
+        Object value = SIZED_INGREDIENT.get(ingredient);
+        if (value instanceof Ingredient) {
+          return (Ingredient)value;
+        }
+      } catch (IllegalAccessException ex) {
+        TConstruct.LOG.error("Failed to access sized ingredient field", ex);
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  @Override
+  public Collection<Item> getInputItems() {
+    Set<Item> items = new HashSet<>();
+    for (SizedIngredient input : inputs) {
+      // ingredients checking NBT cannot be indexed by item, so the recipe must always be a candidate
+      Ingredient ingredient = getIngredient(input);
+      List<Item> inputItems = ingredient == null ? null : getItems(ingredient);
+      if (inputItems == null) {
+        return null;
+      }
+      items.addAll(inputItems);
+    }
+    return items;
+  }
+
   @Override
   public boolean matches(ITinkerStationInventory inv, World world) {
     // ensure this modifier can be applied
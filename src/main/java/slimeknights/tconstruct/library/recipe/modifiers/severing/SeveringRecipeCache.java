@@ -4,51 +4,24 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.minecraft.entity.EntityType;
 import net.minecraft.item.crafting.RecipeManager;
-import slimeknights.mantle.recipe.RecipeHelper;
-import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.EntityRecipeLookup;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Class handling a recipe cache for entity melting recipes, since any given entity type has one recipe
+ * Class handling a recipe cache for severing recipes
+ * @deprecated use {@link EntityRecipeLookup#findSeveringRecipes(RecipeManager, EntityType)}
  */
+@Deprecated
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SeveringRecipeCache {
-  private static final Map<EntityType<?>,List<SeveringRecipe>> CACHE = new HashMap<>();
-
-  static {
-    RecipeCacheInvalidator.addReloadListener(client -> CACHE.clear());
-  }
-
   /**
-   * Gets the recipe for the given type
+   * Gets the recipes for the given type
    * @param manager  Recipe manager
    * @param type     Entity type
-   * @return  Recipe, or null if no recipe for this type
+   * @return  Recipes, empty if no recipes for this type
    */
   public static List<SeveringRecipe> findRecipe(RecipeManager manager, EntityType<?> type) {
-    if (CACHE.containsKey(type)) {
-      return CACHE.get(type);
-    }
-
-    // find all severing recipes for the entity
-    List<SeveringRecipe> list = new ArrayList<>();
-    for (SeveringRecipe recipe : RecipeHelper.getRecipes(manager, RecipeTypes.SEVERING, SeveringRecipe.class)) {
-      if (recipe.matches(type)) {
-        list.add(recipe);
-      }
-    }
-    if (list.isEmpty()) {
-      list = Collections.emptyList();
-    }
-
-    // cache nothing was found
-    CACHE.put(type, list);
-    return list;
+    return EntityRecipeLookup.findSeveringRecipes(manager, type);
   }
 }
@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.recipe.tinkerstation;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.util.NonNullList;
@@ -7,6 +8,9 @@ import net.minecraft.world.World;
 import slimeknights.mantle.recipe.ICommonRecipe;
 import slimeknights.tconstruct.library.recipe.RecipeTypes;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+
 /**
  * Main interface for all recipes in the Tinker Station
  */
@@ -66,6 +70,28 @@ public interface ITinkerStationRecipe extends ICommonRecipe<ITinkerStationInvent
   }
 
 
+  /* Lookup */
+
+  /**
+   * Gets all items this recipe may accept in the tinkerable slot, used by {@link TinkerStationRecipeLookup} to skip recipes that cannot match.
+   * @return  Collection of items, or null if any item may match
+   */
+  @Nullable
+  default Collection<Item> getTinkerableItems() {
+    return null;
+  }
+
+  /**
+   * Gets all items this recipe may accept in the input slots, used by {@link TinkerStationRecipeLookup} to skip recipes that cannot match.
+   * Every non-empty input must be one of these items for the recipe to be tested.
+   * @return  Collection of items, or null if any item may match
+   */
+  @Nullable
+  default Collection<Item> getInputItems() {
+    return null;
+  }
+
+
   /* Deprecated */
 
   /** @deprecated use {@link #updateInputs(ItemStack, IMutableTinkerStationInventory)} */
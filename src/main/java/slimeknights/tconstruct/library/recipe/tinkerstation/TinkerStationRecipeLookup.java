@@ -0,0 +1,155 @@
+package slimeknights.tconstruct.library.recipe.tinkerstation;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.RecipeTypes;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup indexing tinker station recipes by the item in the tinkerable slot, and filtering candidates by the items in the input slots.
+ * Uses {@link ITinkerStationRecipe#getTinkerableItems()} and {@link ITinkerStationRecipe#getInputItems()} to build the index.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TinkerStationRecipeLookup {
+  /** Current index, null if it needs to be rebuilt from the recipe manager */
+  @Nullable
+  private static volatile Index INDEX = null;
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> INDEX = null);
+  }
+
+  /**
+   * Finds the first recipe matching the given inventory
+   * @param inv    Inventory to check
+   * @param world  World instance
+   * @return  Matching recipe, or null if no match
+   */
+  @Nullable
+  public static ITinkerStationRecipe findRecipe(ITinkerStationInventory inv, World world) {
+    Index index = INDEX;
+    if (index == null) {
+      index = Index.build(RecipeHelper.getRecipes(world.getRecipeManager(), RecipeTypes.TINKER_STATION, ITinkerStationRecipe.class));
+      INDEX = index;
+    }
+    for (Candidate candidate : index.getCandidates(inv.getTinkerableStack().getItem())) {
+      if (candidate.canMatchInputs(inv) && candidate.recipe.matches(inv, world)) {
+        return candidate.recipe;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the recipes passing the index filters for the given inventory, without checking if they match
+   * @param recipes  Recipe list, in recipe manager order
+   * @param inv      Inventory to check
+   * @return  Candidate recipes, in recipe manager order
+   */
+  @VisibleForTesting
+  static List<ITinkerStationRecipe> getCandidates(List<ITinkerStationRecipe> recipes, ITinkerStationInventory inv) {
+    List<ITinkerStationRecipe> candidates = new ArrayList<>();
+    for (Candidate candidate : Index.build(recipes).getCandidates(inv.getTinkerableStack().getItem())) {
+      if (candidate.canMatchInputs(inv)) {
+        candidates.add(candidate.recipe);
+      }
+    }
+    return candidates;
+  }
+
+  /** Recipe along with the set of valid input items */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Candidate {
+    private final ITinkerStationRecipe recipe;
+    /** Items valid in the input slots, null if any item may be valid */
+    @Nullable
+    private final Set<Item> inputItems;
+
+    /** Checks if every non-empty input is a valid input item */
+    private boolean canMatchInputs(ITinkerStationInventory inv) {
+      if (inputItems == null) {
+        return true;
+      }
+      for (int i = 0; i < inv.getInputCount(); i++) {
+        ItemStack stack = inv.getInput(i);
+        if (!stack.isEmpty() && !inputItems.contains(stack.getItem())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** Immutable index data, swapped out as a whole on reload */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class Index {
+    /** Candidates for each tinkerable item, including the fallback candidates */
+    private final Map<Item,List<Candidate>> byTool;
+    /** Candidates that may match any tinkerable item */
+    private final List<Candidate> fallback;
+
+    /** Gets the candidates for the given tinkerable item */
+    private List<Candidate> getCandidates(Item item) {
+      return byTool.getOrDefault(item, fallback);
+    }
+
+    /**
+     * Builds a new index from the given recipes
+     * @param recipes  Recipe list, in recipe manager order
+     * @return  Index
+     */
+    private static Index build(List<ITinkerStationRecipe> recipes) {
+      // first pass: find the tools for each recipe, so fallback recipes can be added to each tool in order
+      List<Collection<Item>> recipeTools = new ArrayList<>(recipes.size());
+      Map<Item,List<Candidate>> byTool = new HashMap<>();
+      for (ITinkerStationRecipe recipe : recipes) {
+        Collection<Item> tools = recipe.getTinkerableItems();
+        recipeTools.add(tools);
+        if (tools != null) {
+          for (Item item : tools) {
+            byTool.computeIfAbsent(item, i -> new ArrayList<>());
+          }
+        }
+      }
+
+      // second pass: add each recipe to all relevant lists, preserving the original order
+      ImmutableList.Builder<Candidate> fallback = ImmutableList.builder();
+      for (int i = 0; i < recipes.size(); i++) {
+        ITinkerStationRecipe recipe = recipes.get(i);
+        Collection<Item> inputs = recipe.getInputItems();
+        Candidate candidate = new Candidate(recipe, inputs == null ? null : ImmutableSet.copyOf(inputs));
+        Collection<Item> tools = recipeTools.get(i);
+        if (tools == null) {
+          fallback.add(candidate);
+          for (List<Candidate> list : byTool.values()) {
+            list.add(candidate);
+          }
+        } else {
+          for (Item item : tools) {
+            List<Candidate> list = byTool.get(item);
+            if (list.isEmpty() || list.get(list.size() - 1) != candidate) {
+              list.add(candidate);
+            }
+          }
+        }
+      }
+      return new Index(byTool, fallback.build());
+    }
+  }
+}
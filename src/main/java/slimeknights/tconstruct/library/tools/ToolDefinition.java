@@ -1,6 +1,10 @@
 package slimeknights.tconstruct.library.tools;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import lombok.AccessLevel;
+import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -13,6 +17,7 @@ import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.materials.IMaterialRegistry;
 import slimeknights.tconstruct.library.materials.MaterialRegistry;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
+import slimeknights.tconstruct.library.materials.definition.MaterialId;
 import slimeknights.tconstruct.library.materials.stats.IRepairableMaterialStats;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.tools.definition.IToolStatProvider;
@@ -33,6 +38,9 @@ import java.util.stream.IntStream;
  * This class serves primarily as a container where the datapack tool data will be injected on datapack load
  */
 public class ToolDefinition {
+  /** Cache of base stats for each definition and material list, many tools share the same few material combinations */
+  private static final Cache<StatsKey,StatsNBT> STATS_CACHE = CacheBuilder.newBuilder().maximumSize(1024).build();
+
   /** Empty tool definition instance to prevent the need for null for a fallback */
   public static final ToolDefinition EMPTY = new ToolDefinition(TConstruct.getResource("empty"), new IToolStatProvider() {
     @Override
@@ -105,12 +113,34 @@ public class ToolDefinition {
   }
 
   /**
-   * Builds the stats for this tool definition
+   * Builds the stats for this tool definition. Results are cached until the material stats or tool definition data reload
    * @param materials  Materials list
    * @return  Stats NBT
    */
   public StatsNBT buildStats(List<IMaterial> materials) {
-    return statProvider.buildStats(this, materials);
+    ImmutableList.Builder<MaterialId> ids = ImmutableList.builder();
+    for (IMaterial material : materials) {
+      ids.add(material.getIdentifier());
+    }
+    StatsKey key = new StatsKey(this, ids.build());
+    StatsNBT stats = STATS_CACHE.getIfPresent(key);
+    if (stats == null) {
+      stats = statProvider.buildStats(this, materials);
+      STATS_CACHE.put(key, stats);
+    }
+    return stats;
+  }
+
+  /** Clears cached stats for all tool definitions, called when material stats reload */
+  public static void clearStatsCache() {
+    STATS_CACHE.invalidateAll();
+  }
+
+  /** Key for the stats cache, definitions compare by identity */
+  @Data
+  private static class StatsKey {
+    private final ToolDefinition definition;
+    private final List<MaterialId> materials;
   }
 
 
@@ -170,6 +200,7 @@ public class ToolDefinition {
     repairIndices = null;
     maxRepairWeight = null;
     baseStatDefinition = null;
+    STATS_CACHE.asMap().keySet().removeIf(key -> key.definition == this);
   }
 
   /** Sets the tool data to the default, for the sake of erroring */
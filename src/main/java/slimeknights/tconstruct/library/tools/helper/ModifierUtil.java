@@ -20,6 +20,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.modifiers.hooks.IArmorLootModifier;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.TinkerDataKey;
@@ -74,7 +75,7 @@ public final class ModifierUtil {
           enchantments.put(ench, add);
         }
       };
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.HARVEST_ENCHANTMENTS)) {
         entry.getModifier().applyHarvestEnchantments(tool, entry.getLevel(), context, enchantmentConsumer);
       }
       // lucky pants
@@ -139,7 +140,7 @@ public final class ModifierUtil {
       return 0;
     }
     int looting = 0;
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.LOOTING)) {
       looting = entry.getModifier().getLootingValue(tool, entry.getLevel(), holder, target, damageSource, looting);
     }
     return looting;
@@ -196,7 +197,7 @@ public final class ModifierUtil {
         ListNBT list = nbt.getList(ToolStack.TAG_MODIFIERS, NBT.TAG_COMPOUND);
         int size = list.size();
         if (size > 0) {
-          String key = modifier.getId().toString();
+          String key = modifier.getIdString();
           for (int i = 0; i < size; i++) {
             CompoundNBT entry = list.getCompound(i);
             if (key.equals(entry.getString(ModifierNBT.TAG_MODIFIER))) {
@@ -35,6 +35,7 @@ import slimeknights.mantle.util.SingleKeyMultimap;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.item.IModifiableWeapon;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
@@ -43,7 +44,6 @@ import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nullable;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -104,7 +104,7 @@ public class ToolAttackUtil {
         listBuilder.add(modifier);
       }
     };
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
       entry.getModifier().addAttributes(tool, entry.getLevel(), EquipmentSlotType.MAINHAND, attributeConsumer);
     }
     Multimap<Attribute,AttributeModifier> offhandModifiers = new SingleKeyMultimap<>(Attributes.ATTACK_DAMAGE, listBuilder.build());
@@ -195,8 +195,7 @@ public class ToolAttackUtil {
     // calculate actual damage
     // boost damage from traits
     float baseDamage = damage;
-    List<ModifierEntry> modifiers = tool.getModifierList();
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.ENTITY_DAMAGE)) {
       damage = entry.getModifier().getEntityDamage(tool, entry.getLevel(), context, baseDamage, damage);
     }
 
@@ -261,7 +260,7 @@ public class ToolAttackUtil {
 
     // apply modifier knockback and special effects
     float baseKnockback = knockback;
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.BEFORE_ENTITY_HIT)) {
       knockback = entry.getModifier().beforeEntityHit(tool, entry.getLevel(), context, damage, baseKnockback, knockback);
     }
 
@@ -306,7 +305,7 @@ public class ToolAttackUtil {
         attackerLiving.world.playSound(null, attackerLiving.getPosX(), attackerLiving.getPosY(), attackerLiving.getPosZ(), SoundEvents.ENTITY_PLAYER_ATTACK_NODAMAGE, attackerLiving.getSoundCategory(), 1.0F, 1.0F);
       }
       // alert modifiers nothing was hit, mainly used for fiery
-      for (ModifierEntry entry : modifiers) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.FAILED_ENTITY_HIT)) {
         entry.getModifier().failedEntityHit(tool, entry.getLevel(), context);
       }
 
@@ -368,7 +367,7 @@ public class ToolAttackUtil {
     // apply modifier effects
     // removed: bane of arthropods hook, replaced by this
     int durabilityLost = targetLiving != null ? 1 : 0;
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_ENTITY_HIT)) {
       durabilityLost += entry.getModifier().afterEntityHit(tool, entry.getLevel(), context, damageDealt);
     }
 
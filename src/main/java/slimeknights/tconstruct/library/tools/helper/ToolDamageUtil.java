@@ -10,6 +10,7 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.MathHelper;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
@@ -125,7 +126,7 @@ public class ToolDamageUtil {
     }
 
     // try each modifier
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.DAMAGE_TOOL)) {
       amount = entry.getModifier().onDamageTool(tool, entry.getLevel(), amount, entity);
       // if no more damage, done
       if (amount < 0) {
@@ -208,7 +209,7 @@ public class ToolDamageUtil {
     }
     ToolStack tool = ToolStack.from(stack);
     // if any modifier wishes to show when undamaged, let them
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.SHOW_DURABILITY_BAR)) {
       Boolean show = entry.getModifier().showDurabilityBar(tool, entry.getLevel());
       if (show != null) {
         return show;
@@ -224,7 +225,7 @@ public class ToolDamageUtil {
    */
   private static double getDamagePercentage(ToolStack tool) {
     // first modifier who wishs to handle it wins
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.DAMAGE_PERCENTAGE)) {
       double display = entry.getModifier().getDamagePercentage(tool, entry.getLevel());
       if (!Double.isNaN(display)) {
         return display;
@@ -258,7 +259,7 @@ public class ToolDamageUtil {
     ToolStack tool = ToolStack.from(stack);
 
     // first modifier who wishs to handle it wins
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.DURABILITY_RGB)) {
       int rgb = entry.getModifier().getDurabilityRGB(tool, entry.getLevel());
       // not a problem to check against -1, the top 16 bits are unused
       if (rgb != -1) {
@@ -27,6 +27,7 @@ import net.minecraftforge.common.util.Constants.WorldEvents;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
@@ -138,7 +139,7 @@ public class ToolHarvestLogic {
   private boolean removeBlock(IModifierToolStack tool, ToolHarvestContext context) {
     Boolean removed = null;
     if (!tool.isBroken()) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.REMOVE_BLOCK)) {
         removed = entry.getModifier().removeBlock(tool, entry.getLevel(), context);
         if (removed != null) {
           break;
@@ -210,7 +211,7 @@ public class ToolHarvestLogic {
     // handle modifiers if not broken
     // broken means we are using "empty hand"
     if (!tool.isBroken()) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_BLOCK_BREAK)) {
         entry.getModifier().afterBlockBreak(tool, entry.getLevel(), context);
       }
       ToolDamageUtil.damageAnimated(tool, damage, player);
@@ -287,7 +288,7 @@ public class ToolHarvestLogic {
             breakExtraBlock(tool, stack, context.forPosition(extraPos.toImmutable(), extraState));
           }
         }
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHook.FINISH_BREAKING_BLOCKS)) {
           entry.getModifier().finishBreakingBlocks(tool, entry.getLevel(), context);
         }
       }
@@ -31,6 +31,7 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.modifiers.hooks.IElytraFlightModifier;
 import slimeknights.tconstruct.library.tools.IndestructibleItemEntity;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
@@ -270,7 +271,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
       }
       // grab attributes from modifiers
       BiConsumer<Attribute,AttributeModifier> attributeConsumer = builder::put;
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
         entry.getModifier().addAttributes(tool, entry.getLevel(), slot, attributeConsumer);
       }
     }
@@ -330,7 +331,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
       if (!worldIn.isRemote) {
         tool.ensureHasData();
       }
-      List<ModifierEntry> modifiers = tool.getModifierList();
+      List<ModifierEntry> modifiers = tool.getModifierList(ModifierHook.INVENTORY_TICK);
       if (!modifiers.isEmpty()) {
         LivingEntity living = (LivingEntity) entityIn;
         boolean isCorrectSlot = living.getItemStackFromSlot(slot) == stack;
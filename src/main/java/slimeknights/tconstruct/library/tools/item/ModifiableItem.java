@@ -33,6 +33,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.IndestructibleItemEntity;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.capability.ToolCapabilityProvider;
@@ -240,7 +241,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
       // grab attributes from modifiers, only do for hands (other slots would just be weird)
       if (slot.getSlotType() == Group.HAND) {
         BiConsumer<Attribute,AttributeModifier> attributeConsumer = builder::put;
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHook.ATTRIBUTES)) {
           entry.getModifier().addAttributes(tool, entry.getLevel(), slot, attributeConsumer);
         }
       }
@@ -270,7 +271,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
       if (!worldIn.isRemote) {
         tool.ensureHasData();
       }
-      List<ModifierEntry> modifiers = tool.getModifierList();
+      List<ModifierEntry> modifiers = tool.getModifierList(ModifierHook.INVENTORY_TICK);
       if (!modifiers.isEmpty()) {
         LivingEntity living = (LivingEntity) entityIn;
         // we pass in the stack for most custom context, but for the sake of armor its easier to tell them that this is the correct slot for effects
@@ -299,7 +300,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
     Hand hand = context.getHand();
     if (shouldInteract(context.getPlayer(), tool, hand)) {
       EquipmentSlotType slot = Util.getSlotType(hand);
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.BEFORE_BLOCK_USE)) {
         ActionResultType result = entry.getModifier().beforeBlockUse(tool, entry.getLevel(), context, slot);
         if (result.isSuccessOrConsume()) {
           return result;
@@ -315,7 +316,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
     Hand hand = context.getHand();
     if (shouldInteract(context.getPlayer(), tool, hand)) {
       EquipmentSlotType slot = Util.getSlotType(hand);
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_BLOCK_USE)) {
         ActionResultType result = entry.getModifier().afterBlockUse(tool, entry.getLevel(), context, slot);
         if (result.isSuccessOrConsume()) {
           return result;
@@ -330,7 +331,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
     ToolStack tool = ToolStack.from(stack);
     if (shouldInteract(playerIn, tool, hand)) {
       EquipmentSlotType slot = Util.getSlotType(hand);
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_ENTITY_USE)) {
         ActionResultType result = entry.getModifier().afterEntityUse(tool, entry.getLevel(), playerIn, target, hand, slot);
         if (result.isSuccessOrConsume()) {
           return result;
@@ -346,7 +347,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
     ToolStack tool = ToolStack.from(playerIn.getHeldItem(hand));
     if (shouldInteract(playerIn, tool, hand)) {
       EquipmentSlotType slot = Util.getSlotType(hand);
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.TOOL_USE)) {
         ActionResultType result = entry.getModifier().onToolUse(tool, entry.getLevel(), worldIn, playerIn, hand, slot);
         if (result.isSuccessOrConsume()) {
           return new ActionResult<>(result, stack);
@@ -360,7 +361,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   @Override
   public ItemStack onItemUseFinish(ItemStack stack, World worldIn, LivingEntity entityLiving) {
     ToolStack tool = ToolStack.from(stack);
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.FINISH_USING)) {
       if (entry.getModifier().onFinishUsing(tool, entry.getLevel(), worldIn, entityLiving)) {
         return stack;
       }
@@ -371,7 +372,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   @Override
   public void onPlayerStoppedUsing(ItemStack stack, World worldIn, LivingEntity entityLiving, int timeLeft) {
     ToolStack tool = ToolStack.from(stack);
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.STOPPED_USING)) {
       boolean result = entry.getModifier().onStoppedUsing(tool, entry.getLevel(), worldIn, entityLiving, timeLeft);
       if (result) {
         return;
@@ -382,7 +383,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   @Override
   public int getUseDuration(ItemStack stack) {
     ToolStack tool = ToolStack.from(stack);
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.USE_DURATION)) {
       int result = entry.getModifier().getUseDuration(tool, entry.getLevel());
       if (result > 0) {
         return result;
@@ -394,7 +395,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay, IModifia
   @Override
   public UseAction getUseAction(ItemStack stack) {
     ToolStack tool = ToolStack.from(stack);
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.USE_ACTION)) {
       UseAction result = entry.getModifier().getUseAction(tool, entry.getLevel());
       if (result != UseAction.NONE) {
         return result;
@@ -5,6 +5,7 @@ import net.minecraft.tags.ITag;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 
 import java.util.List;
@@ -63,6 +64,15 @@ public interface IToolContext {
     return getModifiers().getModifiers();
   }
 
+  /**
+   * Gets a list of all modifiers on the tool that override the given hook, sorted by priority
+   * @param hook  Hook to check
+   * @return  List of modifiers using the hook
+   */
+  default List<ModifierEntry> getModifierList(ModifierHook hook) {
+    return getModifiers().getModifiers(hook);
+  }
+
   /**
    * Gets the level of a modifier on this tool. Will consider both raw modifiers and material traits
    * @param modifier  Modifier
@@ -13,6 +13,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 import slimeknights.tconstruct.library.TinkerRegistries;
 import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 
 import javax.annotation.Nullable;
@@ -37,6 +38,14 @@ public class ModifierNBT {
   /** Sorted list of modifiers */
   @Getter
   private final List<ModifierEntry> modifiers;
+  /** Sorted modifiers overriding each hook, indexed by hook ordinal. Built on first use as this instance is immutable */
+  @EqualsAndHashCode.Exclude
+  @Nullable
+  private volatile List<ModifierEntry>[] hookModifiers;
+  /** Modifier levels indexed by {@link Modifier#getIndex()}, built on first use */
+  @EqualsAndHashCode.Exclude
+  @Nullable
+  private volatile int[] levels;
 
   /**
    * Checks if the NBT has no modifiers
@@ -46,18 +55,67 @@ public class ModifierNBT {
     return modifiers.isEmpty();
   }
 
+  /**
+   * Gets all modifiers that override the given hook
+   * @param hook  Hook to check
+   * @return  Sorted list of modifiers overriding the hook
+   */
+  public List<ModifierEntry> getModifiers(ModifierHook hook) {
+    List<ModifierEntry>[] hookModifiers = this.hookModifiers;
+    if (hookModifiers == null) {
+      hookModifiers = buildHookModifiers();
+      this.hookModifiers = hookModifiers;
+    }
+    return hookModifiers[hook.ordinal()];
+  }
+
+  /** Builds the list of modifiers for each hook */
+  @SuppressWarnings("unchecked")
+  private List<ModifierEntry>[] buildHookModifiers() {
+    ModifierHook[] hooks = ModifierHook.values();
+    List<ModifierEntry>[] hookModifiers = new List[hooks.length];
+    for (ModifierHook hook : hooks) {
+      ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+      for (ModifierEntry entry : modifiers) {
+        if (entry.getModifier().hasHook(hook)) {
+          builder.add(entry);
+        }
+      }
+      hookModifiers[hook.ordinal()] = builder.build();
+    }
+    return hookModifiers;
+  }
+
   /**
    * Gets the level of a modifier
    * @param modifier  Modifier to check
    * @return  Modifier level, or 0 if modifier is missing
    */
   public int getLevel(Modifier modifier) {
+    int[] levels = this.levels;
+    if (levels == null) {
+      levels = buildLevels();
+      this.levels = levels;
+    }
+    int index = modifier.getIndex();
+    return index < levels.length ? levels[index] : 0;
+  }
+
+  /** Builds the array of levels for each modifier index */
+  private int[] buildLevels() {
+    int size = 0;
+    for (ModifierEntry entry : modifiers) {
+      size = Math.max(size, entry.getModifier().getIndex() + 1);
+    }
+    int[] levels = new int[size];
     for (ModifierEntry entry : modifiers) {
-      if (entry.getModifier() == modifier) {
-        return entry.getLevel();
+      // if a modifier is somehow duplicated, the first entry wins
+      int index = entry.getModifier().getIndex();
+      if (levels[index] == 0) {
+        levels[index] = entry.getLevel();
       }
     }
-    return 0;
+    return levels;
   }
 
   /**
@@ -155,7 +213,7 @@ public class ModifierNBT {
     ListNBT list = new ListNBT();
     for (ModifierEntry entry : modifiers) {
       CompoundNBT tag = new CompoundNBT();
-      tag.putString(TAG_MODIFIER, entry.getModifier().getId().toString());
+      tag.putString(TAG_MODIFIER, entry.getModifier().getIdString());
       tag.putShort(TAG_LEVEL, (short)entry.getLevel());
       list.add(tag);
     }
@@ -0,0 +1,91 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.INBT;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.eventbus.api.EventPriority;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
+
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed tool NBT, so a tool stack created each tick from the same item stack does not parse its NBT again.
+ * Entries are keyed on the identity of the tag, as {@link ToolStack} always puts a new tag when a value changes instead of editing the tag in place.
+ * Keys are weak, so entries are dropped once the item stack no longer holds the tag.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParsedNBTCache {
+  /** Maximum number of entries in each cache */
+  private static final int MAX_SIZE = 2048;
+
+  /** Parsed stats and multipliers */
+  private static final Cache<INBT,StatsNBT> STATS = create();
+  /** Parsed modifiers and upgrades */
+  private static final Cache<INBT,ModifierNBT> MODIFIERS = create();
+  /** Parsed materials, cleared on reload as the material instances change */
+  private static final Cache<INBT,MaterialNBT> MATERIALS = create();
+
+  static {
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, MaterialsLoadedEvent.class, event -> MATERIALS.invalidateAll());
+  }
+
+  /** Creates a new cache, weak keys makes the cache compare keys by identity */
+  private static <T> Cache<INBT,T> create() {
+    return CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_SIZE).build();
+  }
+
+  /**
+   * Gets the parsed value for the given tag, parsing it if not cached
+   * @param cache   Cache to use
+   * @param tag     Tag to parse
+   * @param parser  Parser for the tag
+   * @param <T>  Parsed type
+   * @return  Parsed value
+   */
+  private static <T> T get(Cache<INBT,T> cache, @Nullable INBT tag, Function<INBT,T> parser) {
+    // nothing to key on, and parsing null is trivial
+    if (tag == null) {
+      return parser.apply(null);
+    }
+    T value = cache.getIfPresent(tag);
+    if (value == null) {
+      value = parser.apply(tag);
+      cache.put(tag, value);
+    }
+    return value;
+  }
+
+  /** Gets the stats for the given tag */
+  static StatsNBT getStats(@Nullable INBT tag) {
+    return get(STATS, tag, StatsNBT::readFromNBT);
+  }
+
+  /** Gets the modifiers for the given tag */
+  static ModifierNBT getModifiers(@Nullable INBT tag) {
+    return get(MODIFIERS, tag, ModifierNBT::readFromNBT);
+  }
+
+  /** Gets the materials for the given tag */
+  static MaterialNBT getMaterials(@Nullable INBT tag) {
+    return get(MATERIALS, tag, MaterialNBT::readFromNBT);
+  }
+
+  /** Caches stats that were just written to the given tag */
+  static void putStats(INBT tag, StatsNBT stats) {
+    STATS.put(tag, stats);
+  }
+
+  /** Caches modifiers that were just written to the given tag */
+  static void putModifiers(INBT tag, ModifierNBT modifiers) {
+    MODIFIERS.put(tag, modifiers);
+  }
+
+  /** Caches materials that were just written to the given tag */
+  static void putMaterials(INBT tag, MaterialNBT materials) {
+    MATERIALS.put(tag, materials);
+  }
+}
@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemStack.TooltipDisplayFlags;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -22,6 +24,7 @@ import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.ToolDefinition;
 import slimeknights.tconstruct.library.tools.context.ToolRebuildContext;
 import slimeknights.tconstruct.library.tools.definition.PartRequirement;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionData;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
 import slimeknights.tconstruct.library.tools.helper.ToolBuildHandler;
 import slimeknights.tconstruct.library.tools.item.IModifiable;
@@ -121,6 +124,14 @@ public class ToolStack implements IModifierToolStack {
   @Nullable
   private IModDataReadOnly volatileModData;
 
+  // rebuild cache: inputs and results of the last stat rebuild, to skip work the next rebuild does not need
+  /** Traits and base stats from the last rebuild, reused if the materials and definition are unchanged */
+  @Nullable
+  private MaterialContribution materialContribution;
+  /** Upgrades used to build {@link #modifiers} in the last rebuild, if unchanged along with the materials the modifier list is reused */
+  @Nullable
+  private ModifierNBT builtUpgrades;
+
   /* Creating */
 
   /**
@@ -197,6 +208,8 @@ public class ToolStack implements IModifierToolStack {
     tool.upgrades = this.upgrades;
     tool.modifiers = this.modifiers;
     tool.stats = this.stats;
+    tool.materialContribution = this.materialContribution;
+    tool.builtUpgrades = this.builtUpgrades;
     // skipping mod data as those are mutable, so not safe to share the same instance
     return tool;
   }
@@ -212,6 +225,8 @@ public class ToolStack implements IModifierToolStack {
     this.multipliers = null;
     this.volatileModData = null;
     this.persistentModData = null;
+    this.materialContribution = null;
+    this.builtUpgrades = null;
   }
 
   /** Creates an item stack from this tool stack */
@@ -345,7 +360,7 @@ public class ToolStack implements IModifierToolStack {
   @Override
   public StatsNBT getStats() {
     if (stats == null) {
-      stats = StatsNBT.readFromNBT(nbt.get(TAG_STATS));
+      stats = ParsedNBTCache.getStats(nbt.get(TAG_STATS));
     }
     return stats;
   }
@@ -356,7 +371,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setStats(StatsNBT stats) {
     this.stats = stats;
-    nbt.put(TAG_STATS, stats.serializeToNBT());
+    INBT tag = stats.serializeToNBT();
+    nbt.put(TAG_STATS, tag);
+    ParsedNBTCache.putStats(tag, stats);
     // if we no longer have enough durability, decrease the damage and mark it broken
     int newMax = getStats().getInt(ToolStats.DURABILITY);
     if (getDamageRaw() >= newMax) {
@@ -370,7 +387,7 @@ public class ToolStack implements IModifierToolStack {
    */
   protected StatsNBT getMultipliers() {
     if (multipliers == null) {
-      multipliers = StatsNBT.readFromNBT(nbt.get(TAG_MULTIPLIERS));
+      multipliers = ParsedNBTCache.getStats(nbt.get(TAG_MULTIPLIERS));
     }
     return multipliers;
   }
@@ -381,7 +398,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setMultipliers(StatsNBT multipliers) {
     this.multipliers = multipliers;
-    nbt.put(TAG_MULTIPLIERS, multipliers.serializeToNBT());
+    INBT tag = multipliers.serializeToNBT();
+    nbt.put(TAG_MULTIPLIERS, tag);
+    ParsedNBTCache.putStats(tag, multipliers);
   }
 
   @Override
@@ -401,7 +420,7 @@ public class ToolStack implements IModifierToolStack {
       return MaterialNBT.EMPTY;
     }
     if (materials == null) {
-      materials = MaterialNBT.readFromNBT(nbt.get(TAG_MATERIALS));
+      materials = ParsedNBTCache.getMaterials(nbt.get(TAG_MATERIALS));
     }
     return materials;
   }
@@ -415,7 +434,9 @@ public class ToolStack implements IModifierToolStack {
     if (materials == MaterialNBT.EMPTY) {
       this.nbt.remove(TAG_MATERIALS);
     } else {
-      this.nbt.put(TAG_MATERIALS, materials.serializeToNBT());
+      INBT tag = materials.serializeToNBT();
+      this.nbt.put(TAG_MATERIALS, tag);
+      ParsedNBTCache.putMaterials(tag, materials);
     }
   }
 
@@ -457,7 +478,7 @@ public class ToolStack implements IModifierToolStack {
   @Override
   public ModifierNBT getUpgrades() {
     if (upgrades == null) {
-      upgrades = ModifierNBT.readFromNBT(nbt.get(TAG_UPGRADES));
+      upgrades = ParsedNBTCache.getModifiers(nbt.get(TAG_UPGRADES));
     }
     return upgrades;
   }
@@ -472,8 +493,7 @@ public class ToolStack implements IModifierToolStack {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
     ModifierNBT newModifiers = getUpgrades().withModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgrades(newModifiers);
     rebuildStats();
   }
 
@@ -487,15 +507,25 @@ public class ToolStack implements IModifierToolStack {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
     ModifierNBT newModifiers = getUpgrades().withoutModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgrades(newModifiers);
     rebuildStats();
   }
 
+  /**
+   * Sets the upgrades without updating the tool stats
+   * @param upgrades  New upgrades
+   */
+  private void setUpgrades(ModifierNBT upgrades) {
+    this.upgrades = upgrades;
+    INBT tag = upgrades.serializeToNBT();
+    nbt.put(TAG_UPGRADES, tag);
+    ParsedNBTCache.putModifiers(tag, upgrades);
+  }
+
   @Override
   public ModifierNBT getModifiers() {
     if (modifiers == null) {
-      modifiers = ModifierNBT.readFromNBT(nbt.get(TAG_MODIFIERS));
+      modifiers = ParsedNBTCache.getModifiers(nbt.get(TAG_MODIFIERS));
     }
     return modifiers;
   }
@@ -506,7 +536,9 @@ public class ToolStack implements IModifierToolStack {
    */
   protected void setModifiers(ModifierNBT modifiers) {
     this.modifiers = modifiers;
-    nbt.put(TAG_MODIFIERS, this.modifiers.serializeToNBT());
+    INBT tag = modifiers.serializeToNBT();
+    nbt.put(TAG_MODIFIERS, tag);
+    ParsedNBTCache.putModifiers(tag, modifiers);
   }
 
 
@@ -603,21 +635,30 @@ public class ToolStack implements IModifierToolStack {
     // hide enchants and attributes, both are added ourself (filtered)
     nbt.putInt(TAG_HIDE_FLAGS, HIDE_FLAGS);
 
-    // first, rebuild the list of all modifiers
-    ModifierNBT.Builder modBuilder = ModifierNBT.builder();
-    modBuilder.add(getUpgrades());
-    modBuilder.add(getDefinition().getData().getTraits());
-    List<PartRequirement> parts = getDefinition().getData().getParts();
-    List<IMaterial> materials = getMaterialsList();
-    int max = Math.min(materials.size(), parts.size());
-    for (int i = 0; i < max; i++) {
-      modBuilder.add(MaterialRegistry.getInstance().getTraits(materials.get(i).getIdentifier(), parts.get(i).getStatType()));
+    // first, find traits and base stats, only changes if the materials or definition changed
+    ToolDefinitionData data = getDefinition().getData();
+    MaterialNBT materialNBT = getMaterials();
+    MaterialContribution contribution = this.materialContribution;
+    if (contribution == null || !contribution.matches(data, materialNBT)) {
+      contribution = MaterialContribution.build(getDefinition(), data, materialNBT);
+      this.materialContribution = contribution;
+      this.builtUpgrades = null;
+    }
+
+    // next, rebuild the list of all modifiers, skipped if neither the upgrades nor the traits changed
+    ModifierNBT upgrades = getUpgrades();
+    ModifierNBT allMods = this.modifiers;
+    if (allMods == null || builtUpgrades != upgrades) {
+      ModifierNBT.Builder modBuilder = ModifierNBT.builder();
+      modBuilder.add(upgrades);
+      modBuilder.add(contribution.traits);
+      allMods = modBuilder.build();
+      setModifiers(allMods);
+      builtUpgrades = upgrades;
     }
-    ModifierNBT allMods = modBuilder.build();
-    setModifiers(allMods);
 
     // pass in the list to stats, note for no part tools this should always be empty
-    StatsNBT stats = definition.buildStats(materials);
+    StatsNBT stats = contribution.baseStats;
     ModifierStatsBuilder statBuilder = ModifierStatsBuilder.builder();
     definition.getData().buildStatMultipliers(statBuilder);
 
@@ -656,6 +697,46 @@ public class ToolStack implements IModifierToolStack {
     }
   }
 
+  /**
+   * Results of a stat rebuild that only depend on the tool definition and materials.
+   * Modifier hooks are not cached as they may read any part of the tool, so they run on every rebuild.
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class MaterialContribution {
+    /** Definition data used to build this */
+    private final ToolDefinitionData data;
+    /** Materials used to build this */
+    private final MaterialNBT materials;
+    /** Definition traits followed by material traits, in part order */
+    private final List<ModifierEntry> traits;
+    /** Tool stats before modifiers */
+    private final StatsNBT baseStats;
+
+    /** Checks if this was built from the given inputs, both are immutable so identity is enough */
+    private boolean matches(ToolDefinitionData data, MaterialNBT materials) {
+      return this.data == data && this.materials == materials;
+    }
+
+    /**
+     * Builds the traits and base stats for the given tool
+     * @param definition  Tool definition
+     * @param data        Tool definition data
+     * @param materials   Tool materials
+     * @return  Material contribution
+     */
+    private static MaterialContribution build(ToolDefinition definition, ToolDefinitionData data, MaterialNBT materials) {
+      ImmutableList.Builder<ModifierEntry> traits = ImmutableList.builder();
+      traits.addAll(data.getTraits());
+      List<PartRequirement> parts = data.getParts();
+      List<IMaterial> materialList = materials.getMaterials();
+      int max = Math.min(materialList.size(), parts.size());
+      for (int i = 0; i < max; i++) {
+        traits.addAll(MaterialRegistry.getInstance().getTraits(materialList.get(i).getIdentifier(), parts.get(i).getStatType()));
+      }
+      return new MaterialContribution(data, materials, traits.build(), definition.buildStats(materialList));
+    }
+  }
+
 
   /* Static helpers */
 
@@ -13,10 +13,12 @@ import slimeknights.tconstruct.shared.command.argument.ModifierArgument;
 import slimeknights.tconstruct.shared.command.argument.SlotTypeArgument;
 import slimeknights.tconstruct.shared.command.argument.ToolStatArgument;
 import slimeknights.tconstruct.shared.command.subcommand.GeneratePartTexturesCommand;
+import slimeknights.tconstruct.shared.command.subcommand.LogisticsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifierUsageCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifiersCommand;
 import slimeknights.tconstruct.shared.command.subcommand.SlotsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.StatsCommand;
+import slimeknights.tconstruct.shared.command.subcommand.TickCostCommand;
 
 import java.util.function.Consumer;
 
@@ -50,6 +52,8 @@ public class TConstructCommand {
     register(builder, "slots", SlotsCommand::register);
     register(builder, "modifier_usage", ModifierUsageCommand::register);
     register(builder, "generate_part_textures", GeneratePartTexturesCommand::register);
+    register(builder, "logistics", LogisticsCommand::register);
+    register(builder, "tick_costs", TickCostCommand::register);
 
     // register final command
     event.getDispatcher().register(builder);
@@ -0,0 +1,42 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.server.ServerWorld;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.smeltery.tileentity.LogisticsSleepTracker;
+import slimeknights.tconstruct.smeltery.tileentity.LogisticsSleepTracker.SleepCounts;
+
+/** Command to list the number of awake and sleeping smeltery logistics tiles in each dimension */
+public class LogisticsCommand {
+  private static final String SUCCESS = TConstruct.makeTranslationKey("command", "logistics.success");
+  private static final String DIMENSION = TConstruct.makeTranslationKey("command", "logistics.dimension");
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSource> subCommand) {
+    subCommand.requires(sender -> sender.hasPermissionLevel(MantleCommand.PERMISSION_EDIT_SPAWN))
+              // logistics
+              .executes(LogisticsCommand::run);
+  }
+
+  /** Runs the command */
+  private static int run(CommandContext<CommandSource> context) {
+    CommandSource source = context.getSource();
+    int awake = 0;
+    for (ServerWorld world : source.getServer().getWorlds()) {
+      SleepCounts counts = LogisticsSleepTracker.getCounts(world);
+      if (counts.getAwake() > 0 || counts.getSleeping() > 0) {
+        source.sendFeedback(new TranslationTextComponent(DIMENSION, world.getDimensionKey().getLocation(), counts.getAwake(), counts.getSleeping()), false);
+        awake += counts.getAwake();
+      }
+    }
+    source.sendFeedback(new TranslationTextComponent(SUCCESS), true);
+    return awake;
+  }
+}
@@ -0,0 +1,95 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraft.world.server.ServerWorld;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker.ChunkCost;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker.Cost;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker.TileCost;
+
+/** Command to record and list the tick cost of smeltery tiles, aggregated by tile, chunk, and dimension */
+public class TickCostCommand {
+  private static final String START = TConstruct.makeTranslationKey("command", "tick_costs.start");
+  private static final String STOP = TConstruct.makeTranslationKey("command", "tick_costs.stop");
+  private static final String NOT_RUNNING = TConstruct.makeTranslationKey("command", "tick_costs.not_running");
+  private static final String SUCCESS = TConstruct.makeTranslationKey("command", "tick_costs.success");
+  private static final String DIMENSION = TConstruct.makeTranslationKey("command", "tick_costs.dimension");
+  private static final String CHUNK = TConstruct.makeTranslationKey("command", "tick_costs.chunk");
+  private static final String TILE = TConstruct.makeTranslationKey("command", "tick_costs.tile");
+  /** Default number of tiles and chunks to list */
+  private static final int DEFAULT_COUNT = 5;
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSource> subCommand) {
+    subCommand.requires(sender -> sender.hasPermissionLevel(MantleCommand.PERMISSION_EDIT_SPAWN))
+              // tick_costs start
+              .then(Commands.literal("start").executes(TickCostCommand::start))
+              // tick_costs stop
+              .then(Commands.literal("stop").executes(TickCostCommand::stop))
+              // tick_costs list [count]
+              .then(Commands.literal("list")
+                            .executes(context -> list(context, DEFAULT_COUNT))
+                            .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                                          .executes(context -> list(context, IntegerArgumentType.getInteger(context, "count")))));
+  }
+
+  /** Starts recording */
+  private static int start(CommandContext<CommandSource> context) {
+    TickCostTracker.start();
+    context.getSource().sendFeedback(new TranslationTextComponent(START), true);
+    return 1;
+  }
+
+  /** Stops recording */
+  private static int stop(CommandContext<CommandSource> context) {
+    if (!TickCostTracker.isRunning()) {
+      context.getSource().sendFeedback(new TranslationTextComponent(NOT_RUNNING), false);
+      return 0;
+    }
+    TickCostTracker.stop();
+    context.getSource().sendFeedback(new TranslationTextComponent(STOP), true);
+    return 1;
+  }
+
+  /** Formats the average tick time */
+  private static String formatMicros(Cost cost) {
+    return String.format("%.2f", cost.getMicrosPerTick());
+  }
+
+  /** Lists the most expensive tiles and chunks in each dimension */
+  private static int list(CommandContext<CommandSource> context, int count) {
+    CommandSource source = context.getSource();
+    int tiles = 0;
+    for (ServerWorld world : source.getServer().getWorlds()) {
+      if (TickCostTracker.getCosts(world).isEmpty()) {
+        continue;
+      }
+      ResourceLocation dimension = world.getDimensionKey().getLocation();
+      Cost total = TickCostTracker.getTotal(world);
+      source.sendFeedback(new TranslationTextComponent(DIMENSION, dimension, total.getNanos() / 1000000, total.getRecipeLookups(), total.getStructureScans(), total.getPackets()), false);
+      for (ChunkCost chunk : TickCostTracker.getTopChunks(world, count)) {
+        source.sendFeedback(new TranslationTextComponent(CHUNK, chunk.getPos().x, chunk.getPos().z, chunk.getNanos() / 1000000), false);
+      }
+      for (TileCost tile : TickCostTracker.getTopTiles(world, count)) {
+        BlockPos pos = tile.getPos();
+        source.sendFeedback(new TranslationTextComponent(TILE, tile.getType(), pos.getX(), pos.getY(), pos.getZ(), formatMicros(tile), tile.getTicks(),
+                                                         tile.getRecipeLookups(), tile.getStructureScans(), tile.getPackets()), false);
+        tiles++;
+      }
+    }
+    source.sendFeedback(new TranslationTextComponent(SUCCESS), true);
+    return tiles;
+  }
+}
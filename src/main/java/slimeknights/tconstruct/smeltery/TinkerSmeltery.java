@@ -74,10 +74,13 @@ import slimeknights.tconstruct.smeltery.inventory.SingleItemContainer;
 import slimeknights.tconstruct.smeltery.item.CopperCanItem;
 import slimeknights.tconstruct.smeltery.item.TankItem;
 import slimeknights.tconstruct.smeltery.tileentity.CastingTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.ChannelNetwork;
 import slimeknights.tconstruct.smeltery.tileentity.ChannelTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.FaucetTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.HeaterTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.LanternTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.LogisticsSleepTracker;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 import slimeknights.tconstruct.smeltery.tileentity.component.DrainTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.component.DuctTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.component.SmelteryComponentTileEntity;
@@ -88,6 +91,7 @@ import slimeknights.tconstruct.smeltery.tileentity.controller.AlloyerTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.controller.FoundryTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.controller.MelterTileEntity;
 import slimeknights.tconstruct.smeltery.tileentity.controller.SmelteryTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.StructureChangeTracker;
 
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -334,6 +338,13 @@ public final class TinkerSmeltery extends TinkerModule {
   public static final RegistryObject<ContainerType<SingleItemContainer>> singleItemContainer = CONTAINERS.register("single_item", SingleItemContainer::new);
   public static final RegistryObject<ContainerType<AlloyerContainer>> alloyerContainer = CONTAINERS.register("alloyer", AlloyerContainer::new);
 
+  public TinkerSmeltery() {
+    StructureChangeTracker.init();
+    ChannelNetwork.init();
+    LogisticsSleepTracker.init();
+    TickCostTracker.init();
+  }
+
   @SubscribeEvent
   void gatherData(final GatherDataEvent event) {
     if (event.includeServer()) {
@@ -335,8 +335,10 @@ public class ChannelBlock extends Block {
 				state = state.with(POWERED, isPowered).with(DOWN, isPowered && canConnect(worldIn, pos, Direction.DOWN));
 				worldIn.setBlockState(pos, state, BlockFlags.BLOCK_UPDATE);
 			}
-      TileEntityHelper.getTile(ChannelTileEntity.class, worldIn, pos)
-                      .ifPresent(te -> te.removeCachedNeighbor(Util.directionFromOffset(pos, fromPos)));
+      TileEntityHelper.getTile(ChannelTileEntity.class, worldIn, pos).ifPresent(te -> {
+        te.removeCachedNeighbor(Util.directionFromOffset(pos, fromPos));
+        te.wake();
+      });
 		}
 	}
 
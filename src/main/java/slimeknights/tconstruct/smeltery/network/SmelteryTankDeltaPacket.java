@@ -0,0 +1,326 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import com.google.common.annotations.VisibleForTesting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.TileEntityHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
+import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet sent whenever the contents of the smeltery tank change, containing just the changes since the last revision.
+ * Applying the delta removes fluids from the previous list, updates the amounts of changed fluids, then appends added fluids.
+ * If the result is not in the new order, the packet also contains the new order as indices into that result.
+ */
+public class SmelteryTankDeltaPacket implements IThreadsafePacket {
+  private static final int[] EMPTY = new int[0];
+
+  private final BlockPos pos;
+  /** Revision the delta applies to */
+  private final int baseRevision;
+  /** Revision after applying the delta */
+  private final int revision;
+  /** Indices in the previous fluid list of fluids that were removed */
+  private final int[] removed;
+  /** Indices in the previous fluid list of fluids whose amount changed */
+  private final int[] changed;
+  /** New amount for each entry in {@link #changed} */
+  private final int[] amounts;
+  /** Fluids added, appended after the remaining previous fluids */
+  private final FluidStack[] added;
+  /** New order as indices into the list after removing and adding, null if that list is already in order */
+  @Nullable
+  private final int[] order;
+
+  private SmelteryTankDeltaPacket(BlockPos pos, int baseRevision, int revision, int[] removed, int[] changed, int[] amounts, FluidStack[] added, @Nullable int[] order) {
+    this.pos = pos;
+    this.baseRevision = baseRevision;
+    this.revision = revision;
+    this.removed = removed;
+    this.changed = changed;
+    this.amounts = amounts;
+    this.added = added;
+    this.order = order;
+  }
+
+  /**
+   * Creates a delta between the two fluid lists
+   * @param pos           Tank position
+   * @param baseRevision  Revision of the previous fluids
+   * @param revision      Revision of the current fluids
+   * @param previous      Fluids as of the last sync
+   * @param current       Current fluids
+   * @return  Delta packet
+   */
+  public static SmelteryTankDeltaPacket create(BlockPos pos, int baseRevision, int revision, List<FluidStack> previous, List<FluidStack> current) {
+    // locate each current fluid in the previous list
+    int size = current.size();
+    int[] previousIndices = new int[size];
+    boolean[] kept = new boolean[previous.size()];
+    List<FluidStack> added = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      FluidStack fluid = current.get(i);
+      int index = indexOf(previous, fluid);
+      previousIndices[i] = index;
+      if (index == -1) {
+        added.add(fluid.copy());
+      } else {
+        kept[index] = true;
+      }
+    }
+
+    // removed fluids, and the position of each kept fluid after removing
+    int[] keptPosition = new int[previous.size()];
+    int removedCount = 0;
+    for (int i = 0; i < previous.size(); i++) {
+      if (kept[i]) {
+        keptPosition[i] = i - removedCount;
+      } else {
+        removedCount++;
+      }
+    }
+    int[] removed = new int[removedCount];
+    removedCount = 0;
+    for (int i = 0; i < previous.size(); i++) {
+      if (!kept[i]) {
+        removed[removedCount++] = i;
+      }
+    }
+
+    // changed amounts, and the position of each fluid in the list after removing and appending
+    int keptCount = previous.size() - removed.length;
+    int changedCount = 0;
+    int addedCount = 0;
+    int[] changed = new int[size];
+    int[] amounts = new int[size];
+    int[] order = new int[size];
+    boolean ordered = true;
+    for (int i = 0; i < size; i++) {
+      int index = previousIndices[i];
+      if (index == -1) {
+        order[i] = keptCount + addedCount;
+        addedCount++;
+      } else {
+        order[i] = keptPosition[index];
+        int amount = current.get(i).getAmount();
+        if (amount != previous.get(index).getAmount()) {
+          changed[changedCount] = index;
+          amounts[changedCount] = amount;
+          changedCount++;
+        }
+      }
+      if (order[i] != i) {
+        ordered = false;
+      }
+    }
+    return new SmelteryTankDeltaPacket(pos, baseRevision, revision, removed, trim(changed, changedCount), trim(amounts, changedCount),
+                                       added.toArray(new FluidStack[0]), ordered ? null : order);
+  }
+
+  /** Trims the array to the given size */
+  private static int[] trim(int[] array, int size) {
+    if (size == 0) {
+      return EMPTY;
+    }
+    if (size == array.length) {
+      return array;
+    }
+    int[] trimmed = new int[size];
+    System.arraycopy(array, 0, trimmed, 0, size);
+    return trimmed;
+  }
+
+  /**
+   * Finds the given fluid in the list, ignoring amount. Fluid stacks cannot be used as map keys as their hash code includes the amount
+   * @param fluids  Fluids to search, tank fluids are never duplicated
+   * @param fluid   Fluid to find
+   * @return  Index of the fluid, or -1 if missing
+   */
+  private static int indexOf(List<FluidStack> fluids, FluidStack fluid) {
+    for (int i = 0; i < fluids.size(); i++) {
+      if (fluids.get(i).isFluidEqual(fluid)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Reads a list of varints */
+  private static int[] readInts(PacketBuffer buffer) {
+    int size = buffer.readVarInt();
+    if (size == 0) {
+      return EMPTY;
+    }
+    int[] ints = new int[size];
+    for (int i = 0; i < size; i++) {
+      ints[i] = buffer.readVarInt();
+    }
+    return ints;
+  }
+
+  /** Writes a list of varints */
+  private static void writeInts(PacketBuffer buffer, int[] ints) {
+    buffer.writeVarInt(ints.length);
+    for (int value : ints) {
+      buffer.writeVarInt(value);
+    }
+  }
+
+  public SmelteryTankDeltaPacket(PacketBuffer buffer) {
+    pos = buffer.readBlockPos();
+    baseRevision = buffer.readVarInt();
+    revision = buffer.readVarInt();
+    removed = readInts(buffer);
+    changed = readInts(buffer);
+    amounts = new int[changed.length];
+    for (int i = 0; i < changed.length; i++) {
+      amounts[i] = buffer.readVarInt();
+    }
+    int size = buffer.readVarInt();
+    added = new FluidStack[size];
+    for (int i = 0; i < size; i++) {
+      added[i] = buffer.readFluidStack();
+    }
+    order = buffer.readBoolean() ? readInts(buffer) : null;
+  }
+
+  @Override
+  public void encode(PacketBuffer buffer) {
+    buffer.writeBlockPos(pos);
+    buffer.writeVarInt(baseRevision);
+    buffer.writeVarInt(revision);
+    writeInts(buffer, removed);
+    writeInts(buffer, changed);
+    for (int amount : amounts) {
+      buffer.writeVarInt(amount);
+    }
+    buffer.writeVarInt(added.length);
+    for (FluidStack fluid : added) {
+      buffer.writeFluidStack(fluid);
+    }
+    buffer.writeBoolean(order != null);
+    if (order != null) {
+      writeInts(buffer, order);
+    }
+  }
+
+  /**
+   * Checks if this delta changes nothing, in which case there is no need to send it
+   * @return  True if the delta is empty
+   */
+  public boolean isEmpty() {
+    return removed.length == 0 && changed.length == 0 && added.length == 0 && order == null;
+  }
+
+  /**
+   * Checks if this delta contains an amount update for the given previous fluid
+   * @param previousIndex  Index in the previous fluid list
+   * @return  True if the amount is included
+   */
+  @VisibleForTesting
+  public boolean hasAmountChange(int previousIndex) {
+    for (int index : changed) {
+      if (index == previousIndex) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Applies this delta to the given fluids
+   * @param previous  Fluids as of the base revision, not modified
+   * @return  New fluid list, or null if the delta does not fit the fluids
+   */
+  @Nullable
+  public List<FluidStack> apply(List<FluidStack> previous) {
+    // copy the previous fluids with updated amounts, marking removed ones as null
+    int size = previous.size();
+    FluidStack[] updated = new FluidStack[size];
+    for (int i = 0; i < size; i++) {
+      updated[i] = previous.get(i).copy();
+    }
+    for (int i = 0; i < changed.length; i++) {
+      int index = changed[i];
+      if (index < 0 || index >= size || updated[index] == null) {
+        return null;
+      }
+      updated[index].setAmount(amounts[i]);
+    }
+    for (int index : removed) {
+      if (index < 0 || index >= size) {
+        return null;
+      }
+      updated[index] = null;
+    }
+    List<FluidStack> fluids = new ArrayList<>(size - removed.length + added.length);
+    for (FluidStack fluid : updated) {
+      if (fluid != null) {
+        fluids.add(fluid);
+      }
+    }
+    for (FluidStack fluid : added) {
+      fluids.add(fluid.copy());
+    }
+    if (order == null) {
+      return fluids;
+    }
+
+    // reorder into the new order
+    if (order.length != fluids.size()) {
+      return null;
+    }
+    List<FluidStack> ordered = new ArrayList<>(order.length);
+    for (int index : order) {
+      if (index < 0 || index >= fluids.size()) {
+        return null;
+      }
+      ordered.add(fluids.get(index));
+    }
+    return ordered;
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    HandleClient.handle(this);
+  }
+
+  private static class HandleClient {
+    private static void handle(SmelteryTankDeltaPacket packet) {
+      ClientWorld world = Minecraft.getInstance().world;
+      TileEntityHelper.getTile(ISmelteryTankHandler.class, world, packet.pos).ifPresent(te -> {
+        SmelteryTank tank = te.getTank();
+        if (tank.getRevision() == packet.baseRevision) {
+          List<FluidStack> fluids = packet.apply(tank.getFluids());
+          if (fluids != null) {
+            te.updateFluidsFromPacket(fluids);
+            tank.setRevision(packet.revision);
+          } else {
+            // should not happen if revisions match, but safer to resync than crash
+            requestResync(world, tank, packet.pos);
+          }
+        } else {
+          // also retries if we are still waiting on a previous request, in case the server ignored it
+          requestResync(world, tank, packet.pos);
+        }
+      });
+    }
+
+    /** Requests the full tank contents from the server, ignoring deltas until it arrives. Rate limited per tank */
+    private static void requestResync(ClientWorld world, SmelteryTank tank, BlockPos pos) {
+      if (tank.tryRequestResync(world.getGameTime())) {
+        TinkerNetwork.getInstance().sendToServer(new SmelteryTankResyncPacket(pos));
+      }
+    }
+  }
+}
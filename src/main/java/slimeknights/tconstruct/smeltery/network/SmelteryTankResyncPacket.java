@@ -0,0 +1,41 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.RequiredArgsConstructor;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.TileEntityHelper;
+import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
+
+/**
+ * Packet sent by the client when a {@link SmelteryTankDeltaPacket} does not match its tank revision, requesting the full tank contents
+ */
+@RequiredArgsConstructor
+public class SmelteryTankResyncPacket implements IThreadsafePacket {
+  private final BlockPos pos;
+
+  public SmelteryTankResyncPacket(PacketBuffer buffer) {
+    pos = buffer.readBlockPos();
+  }
+
+  @Override
+  public void encode(PacketBuffer buffer) {
+    buffer.writeBlockPos(pos);
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    ServerPlayerEntity sender = context.getSender();
+    if (sender != null) {
+      // tank updates go to all players tracking the chunk, so limit requests to the view distance
+      ServerWorld world = sender.getServerWorld();
+      double range = (sender.server.getPlayerList().getViewDistance() + 1) * 16;
+      if (world.isBlockLoaded(pos) && sender.getDistanceSq(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) <= range * range) {
+        TileEntityHelper.getTile(ISmelteryTankHandler.class, world, pos).ifPresent(te -> te.getTank().sendFullSync(sender));
+      }
+    }
+  }
+}
@@ -14,15 +14,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Packet sent whenever the contents of the smeltery tank change
+ * Packet sent with the full contents of the smeltery tank, used when a client requests a resync.
+ * Regular changes are sent using {@link SmelteryTankDeltaPacket}
  */
 @AllArgsConstructor
 public class SmelteryTankUpdatePacket implements IThreadsafePacket {
   private final BlockPos pos;
+  private final int revision;
   private final List<FluidStack> fluids;
 
   public SmelteryTankUpdatePacket(PacketBuffer buffer) {
     pos = buffer.readBlockPos();
+    revision = buffer.readVarInt();
     int size = buffer.readVarInt();
     fluids = new ArrayList<>(size);
     for (int i = 0; i < size; i++) {
@@ -33,6 +36,7 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
   @Override
   public void encode(PacketBuffer buffer) {
     buffer.writeBlockPos(pos);
+    buffer.writeVarInt(revision);
     buffer.writeVarInt(fluids.size());
     for (FluidStack fluid : fluids) {
       buffer.writeFluidStack(fluid);
@@ -46,7 +50,10 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
   private static class HandleClient {
     private static void handle(SmelteryTankUpdatePacket packet) {
-      TileEntityHelper.getTile(ISmelteryTankHandler.class, Minecraft.getInstance().world, packet.pos).ifPresent(te -> te.updateFluidsFromPacket(packet.fluids));
+      TileEntityHelper.getTile(ISmelteryTankHandler.class, Minecraft.getInstance().world, packet.pos).ifPresent(te -> {
+        te.updateFluidsFromPacket(packet.fluids);
+        te.getTank().setRevision(packet.revision);
+      });
     }
   }
 }
@@ -31,6 +31,7 @@ import net.minecraftforge.items.wrapper.SidedInvWrapper;
 import slimeknights.mantle.recipe.RecipeHelper;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.library.recipe.RecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeLookup;
 import slimeknights.tconstruct.library.recipe.casting.ICastingRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
@@ -69,6 +70,8 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
   private int timer;
   /** Current in progress recipe */
   private ICastingRecipe currentRecipe;
+  /** Cooling time of the current recipe, cached once the tank is full. -1 if not yet calculated. Not saved to NBT */
+  private int coolingTime = -1;
   /** Name of the current recipe, fetched from NBT. Used since NBT is read before recipe manager access */
   private ResourceLocation recipeName;
   /** Cache recipe to reduce time during recipe lookups. Not saved to NBT */
@@ -93,6 +96,28 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     this.moldingInventory = new MoldingInventoryWrapper(itemHandler, INPUT);
   }
 
+
+
+  /* Sleeping */
+
+  @Override
+  public void onLoad() {
+    super.onLoad();
+    LogisticsSleepTracker.add(this);
+  }
+
+  @Override
+  public void remove() {
+    super.remove();
+    LogisticsSleepTracker.remove(this);
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    LogisticsSleepTracker.remove(this);
+  }
+
   @Override
   @Nonnull
   public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> capability, @Nullable Direction facing) {
@@ -216,21 +241,43 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     // no recipe
     // TODO: should consider the case where the tank has fluid, but there is no current recipe
     // would like to avoid doing a recipe lookup every tick, so need some way to handle the case of no recipe found, ideally without fluid voiding
-    if (world == null || currentRecipe == null) {
+    if (world == null) {
+      return;
+    }
+    // nothing to do until a casting starts, so stop ticking on the server
+    if (currentRecipe == null) {
+      if (!world.isRemote) {
+        LogisticsSleepTracker.sleep(this);
+      }
       return;
     }
+    long start = TickCostTracker.startTick();
+    tickCasting();
+    TickCostTracker.endTick(this, start);
+  }
+
+  /**
+   * Runs the casting logic for a tick once a recipe is set, split from {@link #tick()} so every return is included in the tick cost
+   */
+  private void tickCasting() {
+    assert world != null && currentRecipe != null;
     // fully filled
     FluidStack currentFluid = tank.getFluid();
     if (currentFluid.getAmount() >= tank.getCapacity() && !currentFluid.isEmpty()) {
       timer++;
       if (!world.isRemote) {
         castingInventory.setFluid(currentFluid);
-        if (timer >= currentRecipe.getCoolingTime(castingInventory)) {
+        // cooling time may require a material lookup, so only fetch it once per casting
+        if (coolingTime < 0) {
+          coolingTime = currentRecipe.getCoolingTime(castingInventory);
+        }
+        if (timer >= coolingTime) {
           if (!currentRecipe.matches(castingInventory, world)) {
             // if lost our recipe or the recipe needs more fluid then we have, we are done
             // will come around later for the proper fluid amount
             currentRecipe = findCastingRecipe();
             recipeName = null;
+            coolingTime = -1;
             if (currentRecipe == null || currentRecipe.getFluidAmount(castingInventory) > currentFluid.getAmount()) {
               timer = 0;
               return;
@@ -270,7 +317,8 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     if (this.lastCastingRecipe != null && this.lastCastingRecipe.matches(castingInventory, world)) {
       return this.lastCastingRecipe;
     }
-    ICastingRecipe castingRecipe = world.getRecipeManager().getRecipe(this.castingType, castingInventory, world).orElse(null);
+    TickCostTracker.recipeLookup(this);
+    ICastingRecipe castingRecipe = CastingRecipeLookup.findRecipe(world, this.castingType, castingInventory);
     if (castingRecipe != null) {
       this.lastCastingRecipe = castingRecipe;
     }
@@ -288,6 +336,7 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     if (lastMoldingRecipe != null && lastMoldingRecipe.matches(moldingInventory, world)) {
       return lastMoldingRecipe;
     }
+    TickCostTracker.recipeLookup(this);
     Optional<MoldingRecipe> newRecipe = world.getRecipeManager().getRecipe(moldingType, moldingInventory, world);
     if (newRecipe.isPresent()) {
       lastMoldingRecipe = newRecipe.get();
@@ -326,6 +375,8 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
           this.currentRecipe = castingRecipe;
           this.recipeName = null;
           this.lastOutput = null;
+          this.coolingTime = -1;
+          LogisticsSleepTracker.wake(this);
         }
         return castingRecipe.getFluidAmount(castingInventory);
       }
@@ -338,6 +389,8 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
           this.currentRecipe = castingRecipe;
           this.recipeName = null;
           this.lastOutput = null;
+          this.coolingTime = -1;
+          LogisticsSleepTracker.wake(this);
           // move output to input slot, prevents removing and ensures item is reduced properly
           setInventorySlotContents(INPUT, getStackInSlot(OUTPUT));
           setInventorySlotContents(OUTPUT, ItemStack.EMPTY);
@@ -357,6 +410,7 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
     currentRecipe = null;
     recipeName = null;
     lastOutput = null;
+    coolingTime = -1;
     castingInventory.setFluid(FluidStack.EMPTY);
     tank.reset();
   }
@@ -425,6 +479,7 @@ public abstract class CastingTileEntity extends TableTileEntity implements ITick
       // fetch recipe by name
       RecipeHelper.getRecipe(world.getRecipeManager(), name, ICastingRecipe.class).ifPresent(recipe -> {
         this.currentRecipe = recipe;
+        this.coolingTime = -1;
         castingInventory.setFluid(fluid);
         tank.setCapacity(recipe.getFluidAmount(castingInventory));
       });
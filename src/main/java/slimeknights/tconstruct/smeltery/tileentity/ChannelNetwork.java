@@ -0,0 +1,387 @@
+package slimeknights.tconstruct.smeltery.tileentity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.Direction.Plane;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import slimeknights.tconstruct.smeltery.block.ChannelBlock;
+import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
+import slimeknights.tconstruct.smeltery.tileentity.LogisticsSleepTracker.SleepCounts;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Group of connected channels that moves fluid as a single unit each world tick, instead of each channel ticking on its own.
+ * Outputs are resolved when the network is built, so transfers between channels in the network skip the capability lookup.
+ * Networks are rebuilt lazily whenever a member is added, removed, or changes its connections.
+ * Once all channels are empty and done flowing the network sleeps, skipping ticks until fluid is inserted or a neighbor changes.
+ */
+public class ChannelNetwork {
+  /** Networks and channels awaiting a network for each world */
+  private static final Map<IWorld,WorldNetworks> NETWORKS = new HashMap<>();
+
+  /** Networks in the same world */
+  private final WorldNetworks owner;
+  /** All channels in this network with their resolved outputs */
+  private final List<Node> nodes;
+  /** If false, this network was invalidated and its channels are waiting for a new network */
+  private boolean valid = true;
+  /** If true, this network is idle and not ticking */
+  private boolean sleeping = false;
+
+  private ChannelNetwork(WorldNetworks owner, List<Node> nodes) {
+    this.owner = owner;
+    this.nodes = nodes;
+  }
+
+  /** Registers event listeners with the event bus */
+  public static void init() {
+    MinecraftForge.EVENT_BUS.addListener(ChannelNetwork::onWorldTick);
+    MinecraftForge.EVENT_BUS.addListener(ChannelNetwork::onWorldUnload);
+  }
+
+  /**
+   * Queues a channel to be added to a network on the next world tick
+   * @param channel  Channel to add
+   */
+  static void queue(ChannelTileEntity channel) {
+    World world = channel.getWorld();
+    if (world != null && !world.isRemote) {
+      NETWORKS.computeIfAbsent(world, w -> new WorldNetworks()).pending.add(channel);
+    }
+  }
+
+  /** Gets the number of channels in this network */
+  public int size() {
+    return nodes.size();
+  }
+
+  /**
+   * Gets the number of awake and sleeping channels in the given world
+   * @param world  World to check
+   * @return  Channel counts
+   */
+  public static SleepCounts getCounts(World world) {
+    SleepCounts counts = new SleepCounts();
+    WorldNetworks networks = NETWORKS.get(world);
+    if (networks != null) {
+      int awake = networks.pending.size();
+      for (ChannelNetwork network : networks.networks) {
+        awake += network.size();
+      }
+      for (ChannelNetwork network : networks.woken) {
+        awake += network.size();
+      }
+      int sleeping = 0;
+      for (ChannelNetwork network : networks.sleeping) {
+        sleeping += network.size();
+      }
+      counts.setAwake(awake);
+      counts.setSleeping(sleeping);
+    }
+    return counts;
+  }
+
+  /**
+   * Wakes this network if sleeping, it will start ticking again next world tick
+   */
+  void wake() {
+    if (valid && sleeping) {
+      sleeping = false;
+      // may not be in the sleeping set yet if woken during the same tick it went idle
+      if (owner.sleeping.remove(this)) {
+        owner.woken.add(this);
+      }
+    }
+  }
+
+  /**
+   * Invalidates this network, queuing all channels to join a new network
+   * @param removed  Channel that is leaving the world and should not be queued, null if all channels remain
+   */
+  void invalidate(@Nullable ChannelTileEntity removed) {
+    if (!valid) {
+      return;
+    }
+    valid = false;
+    if (sleeping) {
+      owner.sleeping.remove(this);
+    }
+    for (Node node : nodes) {
+      ChannelTileEntity channel = node.channel;
+      channel.setNetwork(null);
+      if (channel != removed) {
+        queue(channel);
+      }
+    }
+  }
+
+
+  /* Flow */
+
+  /** Runs a single flow step for all channels in the network, putting the network to sleep if nothing is left to do */
+  private void tick() {
+    for (Node node : nodes) {
+      long start = TickCostTracker.startTick();
+      node.flow();
+      TickCostTracker.endTick(node.channel, start);
+    }
+    // fluid is only unlocked once every channel flowed, so fluid moves at most one channel per tick regardless of order
+    boolean idle = true;
+    for (Node node : nodes) {
+      node.channel.endFlow();
+      if (!node.channel.isIdle()) {
+        idle = false;
+      }
+    }
+    sleeping = idle;
+  }
+
+  /** Channel along with its resolved outputs */
+  private static class Node {
+    private final ChannelTileEntity channel;
+    /** Handler for the channel below, null if not outputting down or outputting into a block outside the network */
+    @Nullable
+    private final IFluidHandler downTarget;
+    private final boolean hasDown;
+    /** Horizontal sides set to output */
+    private final Direction[] sides;
+    /** Handler for each of the side outputs, null for blocks outside the network */
+    private final IFluidHandler[] sideTargets;
+
+    private Node(ChannelTileEntity channel, boolean hasDown, @Nullable IFluidHandler downTarget, Direction[] sides, IFluidHandler[] sideTargets) {
+      this.channel = channel;
+      this.hasDown = hasDown;
+      this.downTarget = downTarget;
+      this.sides = sides;
+      this.sideTargets = sideTargets;
+    }
+
+    /** Transfers fluid out of this channel, matching the logic channels used when ticking alone */
+    private void flow() {
+      if (channel.getFluid().isEmpty()) {
+        return;
+      }
+      // if we have down and can flow, skip sides
+      if (hasDown && transfer(Direction.DOWN, downTarget, FaucetTileEntity.MB_PER_TICK)) {
+        return;
+      }
+      if (sides.length > 0) {
+        // split the fluid evenly between sides
+        int flowRate = MathHelper.clamp(channel.getMaxUsable() / sides.length, 1, FaucetTileEntity.MB_PER_TICK);
+        for (int i = 0; i < sides.length; i++) {
+          transfer(sides[i], sideTargets[i], flowRate);
+        }
+      }
+    }
+
+    /**
+     * Transfers fluid on a single side
+     * @param side      Side to transfer from
+     * @param target    Resolved target in the network, or null to use the neighbor capability
+     * @param flowRate  Maximum amount to output
+     * @return  True if the side transferred fluid
+     */
+    private boolean transfer(Direction side, @Nullable IFluidHandler target, int flowRate) {
+      if (channel.getFluid().isEmpty()) {
+        return false;
+      }
+      if (target != null) {
+        return channel.fill(side, target, flowRate);
+      }
+      return channel.trySide(side, flowRate);
+    }
+  }
+
+
+  /* Building */
+
+  /**
+   * Gets the loaded channel on the given side of the channel
+   * @param world  World instance
+   * @param pos    Position to check
+   * @return  Channel, or null if missing or unloaded
+   */
+  @Nullable
+  private static ChannelTileEntity getChannel(World world, BlockPos pos) {
+    if (!world.isBlockLoaded(pos)) {
+      return null;
+    }
+    TileEntity te = world.getTileEntity(pos);
+    if (te instanceof ChannelTileEntity && !te.isRemoved()) {
+      return (ChannelTileEntity)te;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the channel connected on the given side, regardless of flow direction
+   * @param world    World instance
+   * @param channel  Channel to check
+   * @param side     Side to check
+   * @return  Connected channel, or null if not connected
+   */
+  @Nullable
+  private static ChannelTileEntity getConnected(World world, ChannelTileEntity channel, Direction side) {
+    BlockState state = channel.getBlockState();
+    if (side == Direction.DOWN) {
+      if (!state.get(ChannelBlock.DOWN)) {
+        return null;
+      }
+    } else if (side != Direction.UP && state.get(ChannelBlock.DIRECTION_MAP.get(side)) == ChannelConnection.NONE) {
+      return null;
+    }
+    ChannelTileEntity connected = getChannel(world, channel.getPos().offset(side));
+    // channels above are connected only if they pour down into us
+    if (connected != null && side == Direction.UP && !connected.getBlockState().get(ChannelBlock.DOWN)) {
+      return null;
+    }
+    return connected;
+  }
+
+  /**
+   * Builds a new network from all channels connected to the given channel
+   * @param world  World instance
+   * @param start  Channel to start from
+   * @return  New network
+   */
+  private static ChannelNetwork build(World world, WorldNetworks owner, ChannelTileEntity start) {
+    Set<ChannelTileEntity> found = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<ChannelTileEntity> channels = new ArrayList<>();
+    Deque<ChannelTileEntity> queue = new ArrayDeque<>();
+    found.add(start);
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      ChannelTileEntity channel = queue.remove();
+      // joining a loaded network merges it into this one
+      ChannelNetwork existing = channel.getNetwork();
+      if (existing != null) {
+        existing.invalidate(null);
+      }
+      channels.add(channel);
+      for (Direction side : Direction.values()) {
+        ChannelTileEntity connected = getConnected(world, channel, side);
+        if (connected != null && found.add(connected)) {
+          queue.add(connected);
+        }
+      }
+    }
+
+    // resolve outputs now that we know which channels are in the network
+    List<Node> nodes = new ArrayList<>(channels.size());
+    for (ChannelTileEntity channel : channels) {
+      BlockState state = channel.getBlockState();
+      boolean hasDown = state.get(ChannelBlock.DOWN);
+      IFluidHandler downTarget = null;
+      if (hasDown) {
+        ChannelTileEntity below = getChannel(world, channel.getPos().down());
+        if (below != null && found.contains(below)) {
+          downTarget = below.getInputHandler(Direction.UP);
+        }
+      }
+      List<Direction> sides = new ArrayList<>(4);
+      List<IFluidHandler> targets = new ArrayList<>(4);
+      for (Direction side : Plane.HORIZONTAL) {
+        if (state.get(ChannelBlock.DIRECTION_MAP.get(side)) == ChannelConnection.OUT) {
+          sides.add(side);
+          // neighbors only accept fluid on inputs, other sides use the capability which inserts nothing
+          ChannelTileEntity neighbor = getChannel(world, channel.getPos().offset(side));
+          Direction opposite = side.getOpposite();
+          if (neighbor != null && found.contains(neighbor) && neighbor.getBlockState().get(ChannelBlock.DIRECTION_MAP.get(opposite)) == ChannelConnection.IN) {
+            targets.add(neighbor.getInputHandler(opposite));
+          } else {
+            targets.add(null);
+          }
+        }
+      }
+      nodes.add(new Node(channel, hasDown, downTarget, sides.toArray(new Direction[0]), targets.toArray(new IFluidHandler[0])));
+    }
+    ChannelNetwork network = new ChannelNetwork(owner, nodes);
+    for (ChannelTileEntity channel : channels) {
+      channel.setNetwork(network);
+    }
+    return network;
+  }
+
+
+  /* Events */
+
+  /** Networks for a single world */
+  private static class WorldNetworks {
+    /** Networks ticking each world tick */
+    private final List<ChannelNetwork> networks = new ArrayList<>();
+    /** Networks woken since the last tick, added to the ticking list at the start of the next tick */
+    private final List<ChannelNetwork> woken = new ArrayList<>();
+    /** Networks currently idle */
+    private final Set<ChannelNetwork> sleeping = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Channels waiting to join a network */
+    private final Set<ChannelTileEntity> pending = new LinkedHashSet<>();
+
+    /** Builds networks for pending channels, then ticks all networks */
+    private void tick(World world) {
+      // networks invalidated during a merge queue their channels, so keep going until nothing is left
+      while (!pending.isEmpty()) {
+        ChannelTileEntity channel = pending.iterator().next();
+        pending.remove(channel);
+        // skip channels that left the world or already joined a network built this tick
+        if (channel.getNetwork() == null && getChannel(world, channel.getPos()) == channel) {
+          networks.add(build(world, this, channel));
+        }
+      }
+      if (!woken.isEmpty()) {
+        networks.addAll(woken);
+        woken.clear();
+      }
+      for (ChannelNetwork network : networks) {
+        if (network.valid) {
+          network.tick();
+        }
+      }
+      // drop invalid networks and move idle networks out of the tick list
+      networks.removeIf(network -> {
+        if (!network.valid) {
+          return true;
+        }
+        if (network.sleeping) {
+          sleeping.add(network);
+          return true;
+        }
+        return false;
+      });
+    }
+  }
+
+  /** Ticks all networks in the world */
+  private static void onWorldTick(WorldTickEvent event) {
+    if (event.phase == Phase.END && !event.world.isRemote) {
+      WorldNetworks networks = NETWORKS.get(event.world);
+      if (networks != null) {
+        networks.tick(event.world);
+      }
+    }
+  }
+
+  /** Clears all networks for an unloaded world */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    NETWORKS.remove(event.getWorld());
+  }
+}
@@ -1,15 +1,16 @@
 package slimeknights.tconstruct.smeltery.tileentity;
 
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Plane;
 import net.minecraft.util.Util;
 import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.capabilities.Capability;
@@ -38,9 +39,9 @@ import java.util.EnumMap;
 import java.util.Map;
 
 /**
- * Logic for channel fluid transfer
+ * Logic for channel fluid transfer, flow is run by the {@link ChannelNetwork} containing the channel
  */
-public class ChannelTileEntity extends MantleTileEntity implements ITickableTileEntity, IFluidPacketReceiver {
+public class ChannelTileEntity extends MantleTileEntity implements IFluidPacketReceiver {
 	/** Channel internal tank */
 	private final ChannelTank tank = new ChannelTank(36, this);
 	/** Handler to return from channel top */
@@ -64,6 +65,11 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	/** Stores if the channel is currently flowing, set to 2 to allow a small buffer */
 	private final byte[] isFlowing = new byte[5];
 
+	/** Network running flow for this channel, null if waiting to join a network */
+	@Nullable
+	@Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+	private ChannelNetwork network;
+
 	public ChannelTileEntity() {
 		this(TinkerSmeltery.channel.get());
 	}
@@ -86,6 +92,60 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 		return new AxisAlignedBB(pos.getX(), pos.getY() - 1, pos.getZ(), pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1);
 	}
 
+	/* Network */
+
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		ChannelNetwork.queue(this);
+	}
+
+	@Override
+	public void updateContainingBlockInfo() {
+		super.updateContainingBlockInfo();
+		// block state changed, connections may have changed
+		if (network != null) {
+			network.invalidate(null);
+		}
+	}
+
+	@Override
+	public void remove() {
+		super.remove();
+		if (network != null) {
+			network.invalidate(this);
+		}
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		if (network != null) {
+			network.invalidate(this);
+		}
+	}
+
+	/**
+	 * Wakes the network containing this channel, called when fluid is inserted or a neighbor changes
+	 */
+	public void wake() {
+		if (network != null) {
+			network.wake();
+		}
+	}
+
+	/**
+	 * Gets the handler used by other channels in the network to insert into this channel
+	 * @param side  Side being inserted into, either up or horizontal
+	 * @return  Fluid handler for the side
+	 */
+	IFluidHandler getInputHandler(Direction side) {
+		if (side == Direction.UP) {
+			return tank;
+		}
+		return sideTanks.get(side);
+	}
+
 	/** Called when a capability invalidates to clear the given side */
 	private void invalidateSide(Direction side, LazyOptional<IFluidHandler> capability) {
 		if (!this.isRemoved()) {
@@ -274,27 +334,13 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 		return this.getBlockState().get(ChannelBlock.DIRECTION_MAP.get(side)) == ChannelConnection.OUT;
 	}
 
-	/**
-	 * Counts the number of side outputs on the given side
-	 * @param state  State to check
-	 * @return  Number of outputs
-	 */
-	private static int countOutputs(BlockState state) {
-		int count = 0;
-		for (Direction direction : Plane.HORIZONTAL) {
-			if (state.get(ChannelBlock.DIRECTION_MAP.get(direction)) == ChannelConnection.OUT) {
-				count++;
-			}
-		}
-		return count;
-	}
-
 	/**
 	 * Syncs the given flowing state to the client side
 	 * @param side     Side to sync
 	 * @param flowing  Flowing state to sync
 	 */
 	private void syncFlowToClient(Direction side, boolean flowing) {
+		TickCostTracker.packet(this);
 		TinkerNetwork.getInstance().sendToClientsAround(new ChannelFlowPacket(pos, side, flowing), world, pos);
 	}
 
@@ -302,36 +348,33 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	/* Flow */
 
 	/**
-	 * Ticking logic
+	 * Gets the amount of fluid that may leave the channel this tick
+	 * @return  Usable fluid amount
 	 */
-	@Override
-	public void tick() {
-		if(world == null || world.isRemote) {
-			return;
-		}
-
-		// must have fluid first
-		FluidStack fluid = tank.getFluid();
-		if(!fluid.isEmpty()) {
+	int getMaxUsable() {
+		return tank.getMaxUsable();
+	}
 
-			// if we have down and can flow, skip sides
-			boolean hasFlown = false;
-			BlockState state = getBlockState();
-			if(state.get(ChannelBlock.DOWN)) {
-				hasFlown = trySide(Direction.DOWN, FaucetTileEntity.MB_PER_TICK);
-			}
-			// try sides if we have any sides
-			int outputs = countOutputs(state);
-			if(!hasFlown && outputs > 0) {
-				// split the fluid evenly between sides
-				int flowRate = MathHelper.clamp(tank.getMaxUsable() / outputs, 1, FaucetTileEntity.MB_PER_TICK);
-				// then transfer on each side
-				for(Direction side : Plane.HORIZONTAL) {
-					trySide(side, flowRate);
-				}
+	/**
+	 * Checks if this channel has nothing left to do, meaning it has no fluid and no sides still flowing
+	 * @return  True if idle
+	 */
+	boolean isIdle() {
+		if (!tank.isEmpty()) {
+			return false;
+		}
+		for (byte flowing : isFlowing) {
+			if (flowing > 0) {
+				return false;
 			}
 		}
+		return true;
+	}
 
+	/**
+	 * Called by the network after all channels flowed to clear flowing sides and unlock fluid for the next tick
+	 */
+	void endFlow() {
 		// clear flowing if we should no longer flow on a side
 		for (int i = 0; i < 5; i++) {
 			if (isFlowing[i] > 0) {
@@ -408,6 +451,7 @@ public class ChannelTileEntity extends MantleTileEntity implements ITickableTile
 	 */
 	public void sendFluidUpdate() {
 		if (world != null && !world.isRemote) {
+			TickCostTracker.packet(this);
 			TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(pos, getFluid()), world, pos);
 		}
 	}
@@ -22,6 +22,7 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.network.FaucetActivationPacket;
@@ -39,6 +40,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
   private static final String TAG_STOP = "stop";
   private static final String TAG_STATE = "state";
   private static final String TAG_LAST_REDSTONE = "lastRedstone";
+  private static final String TAG_BULK = "bulk";
 
   /** If true, faucet is currently pouring */
   private FaucetState faucetState = FaucetState.OFF;
@@ -51,6 +53,8 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
   private FluidStack renderFluid = FluidStack.EMPTY;
   /** Used for pulse detection */
   private boolean lastRedstoneState = false;
+  /** If true, the current pour is transferring in bulk, set when a new batch is drained */
+  private boolean bulk = false;
 
   /** Fluid handler of the input to the faucet */
   private LazyOptional<IFluidHandler> inputHandler;
@@ -71,6 +75,27 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
   }
 
 
+  /* Sleeping */
+
+  @Override
+  public void onLoad() {
+    super.onLoad();
+    LogisticsSleepTracker.add(this);
+  }
+
+  @Override
+  public void remove() {
+    super.remove();
+    LogisticsSleepTracker.remove(this);
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    LogisticsSleepTracker.remove(this);
+  }
+
+
   /* Fluid handler */
 
   /**
@@ -123,6 +148,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
    * @param neighbor  Neighbor position that changed
    */
   public void neighborChanged(BlockPos neighbor) {
+    LogisticsSleepTracker.wake(this);
     // if the neighbor was below us, remove output
     if (pos.equals(neighbor.up())) {
       outputHandler = null;
@@ -153,6 +179,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     if (world == null || world.isRemote) {
       return;
     }
+    LogisticsSleepTracker.wake(this);
     // already pouring? we want to start
     switch (faucetState) {
       // off activates the faucet
@@ -179,6 +206,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
   public void handleRedstone(boolean hasSignal) {
     if (hasSignal != lastRedstoneState) {
       lastRedstoneState = hasSignal;
+      LogisticsSleepTracker.wake(this);
       if (hasSignal) {
         if (world != null){
           world.getPendingBlockTicks().scheduleTick(pos, this.getBlockState().getBlock(), 2);
@@ -199,8 +227,9 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
       return;
     }
 
-    // nothing to do if not pouring
+    // nothing to do if not pouring, stop ticking until activated
     if (faucetState == FaucetState.OFF) {
+      LogisticsSleepTracker.sleep(this);
       return;
       // if powered and we can transfer, schedule transfer for next tick
     } else if (faucetState == FaucetState.POWERED && doTransfer(false)) {
@@ -230,7 +259,8 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     if (inputOptional.isPresent() && outputOptional.isPresent()) {
       // can we drain?
       IFluidHandler input = inputOptional.orElse(EmptyFluidHandler.INSTANCE);
-      FluidStack drained = input.drain(PACKET_SIZE, FluidAction.SIMULATE);
+      boolean bulkTransfer = Config.COMMON.faucetBulkTransfer.get();
+      FluidStack drained = input.drain(bulkTransfer ? Config.COMMON.faucetBulkAmount.get() : PACKET_SIZE, FluidAction.SIMULATE);
       if (!drained.isEmpty() && !drained.getFluid().getAttributes().isGaseous(drained)) {
         // can we fill
         IFluidHandler output = outputOptional.orElse(EmptyFluidHandler.INSTANCE);
@@ -238,11 +268,16 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
         if (filled > 0) {
           // fill if requested
           if (execute) {
+            // in bulk, pour whole ingots so a partial ingot does not hold up the next batch
+            if (bulkTransfer && filled > PACKET_SIZE) {
+              filled -= filled % PACKET_SIZE;
+            }
             // drain the liquid and transfer it, buffer the amount for delay
             this.drained = input.drain(filled, FluidAction.EXECUTE);
+            this.bulk = bulkTransfer;
 
-            // sync to clients if we have changes
-            if (faucetState == FaucetState.OFF || !renderFluid.isFluidEqual(drained)) {
+            // sync to clients if we have changes, bulk only syncs when starting to pour fluid
+            if (faucetState == FaucetState.OFF || (bulkTransfer ? renderFluid.isEmpty() : !renderFluid.isFluidEqual(drained))) {
               syncToClient(this.drained, true);
             }
             faucetState = FaucetState.POURING;
@@ -282,14 +317,17 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     LazyOptional<IFluidHandler> outputOptional = getOutputHandler();
     if (outputOptional.isPresent()) {
       FluidStack fillStack = drained.copy();
-      fillStack.setAmount(Math.min(drained.getAmount(), MB_PER_TICK));
+      // bulk transfers the whole batch at once
+      if (!bulk) {
+        fillStack.setAmount(Math.min(drained.getAmount(), MB_PER_TICK));
+      }
 
       // can we fill?
       IFluidHandler output = outputOptional.orElse(EmptyFluidHandler.INSTANCE);
       int filled = output.fill(fillStack, IFluidHandler.FluidAction.SIMULATE);
       if (filled > 0) {
         // update client if they do not think we have fluid
-        if (!renderFluid.isFluidEqual(drained)) {
+        if (!bulk && !renderFluid.isFluidEqual(drained)) {
           syncToClient(drained, true);
         }
 
@@ -310,6 +348,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
    */
   private void reset() {
     stopPouring = false;
+    bulk = false;
     drained = FluidStack.EMPTY;
     if (faucetState != FaucetState.OFF || !renderFluid.isFluidEqual(drained)) {
       faucetState = FaucetState.OFF;
@@ -367,6 +406,9 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     compound = super.write(compound);
     compound.putBoolean(TAG_STOP, stopPouring);
     compound.putBoolean(TAG_LAST_REDSTONE, lastRedstoneState);
+    if (bulk) {
+      compound.putBoolean(TAG_BULK, true);
+    }
     if (!drained.isEmpty()) {
       compound.put(TAG_DRAINED, drained.writeToNBT(new CompoundNBT()));
     }
@@ -380,6 +422,7 @@ public class FaucetTileEntity extends MantleTileEntity implements ITickableTileE
     faucetState = FaucetState.fromIndex(compound.getByte(TAG_STATE));
     stopPouring = compound.getBoolean(TAG_STOP);
     lastRedstoneState = compound.getBoolean(TAG_LAST_REDSTONE);
+    bulk = compound.getBoolean(TAG_BULK);
     // fluids
     if (compound.contains(TAG_DRAINED, NBT.TAG_COMPOUND)) {
       drained = FluidStack.loadFluidStackFromNBT(compound.getCompound(TAG_DRAINED));
@@ -0,0 +1,201 @@
+package slimeknights.tconstruct.smeltery.tileentity;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Removes idle smeltery logistics tiles from the world tick list until something wakes them.
+ * Tiles are only added or removed from the tick list at the end of the world tick, as the list cannot change while tile entities tick.
+ * Channels sleep as part of their {@link ChannelNetwork}, so this tracker only handles ticking tiles such as faucets and casting tables.
+ * <p>
+ * This edits the vanilla tick list directly rather than going through {@link World#addTileEntity(TileEntity)} and {@link World#removeTileEntity(net.minecraft.util.math.BlockPos)},
+ * as the tile stays loaded and in {@link World#loadedTileEntityList} while sleeping. The invariant is that a sleeping tile is only added back to the tick list
+ * if it is still valid and loaded, so a tile removed by another mod without calling {@link TileEntity#remove()} is dropped instead of ticking again.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LogisticsSleepTracker {
+  /** Ticks between checks for sleeping tiles removed without notifying the tracker */
+  private static final int PURGE_INTERVAL = 1200;
+  /** Tracked tiles for each world */
+  private static final Map<IWorld,WorldTiles> TILES = new HashMap<>();
+
+  /** Registers event listeners with the event bus */
+  public static void init() {
+    MinecraftForge.EVENT_BUS.addListener(LogisticsSleepTracker::onWorldTick);
+    MinecraftForge.EVENT_BUS.addListener(LogisticsSleepTracker::onWorldUnload);
+  }
+
+  /** Gets the tiles for the world of the given tile, or null if on the client */
+  @Nullable
+  private static WorldTiles getTiles(TileEntity tile, boolean create) {
+    World world = tile.getWorld();
+    if (world == null || world.isRemote) {
+      return null;
+    }
+    if (create) {
+      return TILES.computeIfAbsent(world, w -> new WorldTiles());
+    }
+    return TILES.get(world);
+  }
+
+  /**
+   * Starts tracking a tile for the sake of sleep counts, called when the tile loads
+   * @param tile  Tile to track
+   */
+  public static void add(TileEntity tile) {
+    WorldTiles tiles = getTiles(tile, true);
+    if (tiles != null) {
+      tiles.loaded.add(tile);
+    }
+  }
+
+  /**
+   * Stops tracking a tile, called when the tile is removed or unloaded
+   * @param tile  Tile to remove
+   */
+  public static void remove(TileEntity tile) {
+    WorldTiles tiles = getTiles(tile, false);
+    if (tiles != null) {
+      tiles.loaded.remove(tile);
+      tiles.sleeping.remove(tile);
+      tiles.pending.remove(tile);
+    }
+  }
+
+  /**
+   * Requests the tile be removed from the tick list at the end of the tick
+   * @param tile  Tile to sleep
+   */
+  public static void sleep(TileEntity tile) {
+    WorldTiles tiles = getTiles(tile, false);
+    if (tiles != null && tiles.loaded.contains(tile)) {
+      tiles.pending.put(tile, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Requests the tile be added back to the tick list at the end of the tick, if it is sleeping
+   * @param tile  Tile to wake
+   */
+  public static void wake(TileEntity tile) {
+    WorldTiles tiles = getTiles(tile, false);
+    if (tiles != null && tiles.loaded.contains(tile)) {
+      tiles.pending.put(tile, Boolean.FALSE);
+    }
+  }
+
+  /**
+   * Gets the number of sleeping and awake logistics tiles in the given world, including channels
+   * @param world  World to check
+   * @return  Tile counts
+   */
+  public static SleepCounts getCounts(World world) {
+    SleepCounts counts = ChannelNetwork.getCounts(world);
+    WorldTiles tiles = TILES.get(world);
+    if (tiles != null) {
+      counts.awake += tiles.loaded.size() - tiles.sleeping.size();
+      counts.sleeping += tiles.sleeping.size();
+    }
+    return counts;
+  }
+
+  /** Counts of sleeping and awake tiles */
+  @Data
+  public static class SleepCounts {
+    private int awake;
+    private int sleeping;
+  }
+
+  /** Tracked tiles in a single world */
+  private static class WorldTiles {
+    /** All loaded tiles */
+    private final Set<TileEntity> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Tiles removed from the tick list */
+    private final Set<TileEntity> sleeping = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Tiles to change state at the end of the tick, true to sleep and false to wake */
+    private final Map<TileEntity,Boolean> pending = new IdentityHashMap<>();
+
+    /** Checks if the tile is still loaded in the world, as another mod may have removed it while sleeping */
+    private static boolean isLoaded(World world, TileEntity tile) {
+      return !tile.isRemoved() && world.loadedTileEntityList.contains(tile);
+    }
+
+    /** Drops sleeping tiles no longer loaded in the world, in case another mod removed them without notifying the tile */
+    private void purge(World world) {
+      if (sleeping.isEmpty()) {
+        return;
+      }
+      Set<TileEntity> worldTiles = Collections.newSetFromMap(new IdentityHashMap<>());
+      worldTiles.addAll(world.loadedTileEntityList);
+      sleeping.removeIf(tile -> {
+        if (tile.isRemoved() || !worldTiles.contains(tile)) {
+          loaded.remove(tile);
+          pending.remove(tile);
+          return true;
+        }
+        return false;
+      });
+    }
+
+    /** Applies all pending changes to the world tick list */
+    private void update(World world) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      Set<TileEntity> toSleep = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (Entry<TileEntity,Boolean> entry : pending.entrySet()) {
+        TileEntity tile = entry.getKey();
+        if (entry.getValue()) {
+          if (sleeping.add(tile)) {
+            toSleep.add(tile);
+          }
+        } else if (sleeping.remove(tile)) {
+          if (isLoaded(world, tile)) {
+            world.tickableTileEntities.add(tile);
+          } else {
+            loaded.remove(tile);
+          }
+        }
+      }
+      pending.clear();
+      // single pass over the tick list, removing one at a time is linear per tile
+      if (!toSleep.isEmpty()) {
+        world.tickableTileEntities.removeAll(toSleep);
+      }
+    }
+  }
+
+  /** Applies pending sleep changes once tile entities are done ticking */
+  private static void onWorldTick(WorldTickEvent event) {
+    if (event.phase == Phase.END && !event.world.isRemote) {
+      WorldTiles tiles = TILES.get(event.world);
+      if (tiles != null) {
+        if (event.world.getGameTime() % PURGE_INTERVAL == 0) {
+          tiles.purge(event.world);
+        }
+        tiles.update(event.world);
+      }
+    }
+  }
+
+  /** Clears all tiles for an unloaded world */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    TILES.remove(event.getWorld());
+  }
+}
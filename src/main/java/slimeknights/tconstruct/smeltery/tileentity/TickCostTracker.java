@@ -0,0 +1,231 @@
+package slimeknights.tconstruct.smeltery.tileentity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the tick time and expensive operations of smeltery tiles, so costly structures can be found without a profiler.
+ * Nothing is recorded until {@link #start()} is called, so the only cost while stopped is a boolean check.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TickCostTracker {
+  /** Costs for each tile position in each world */
+  private static final Map<IWorld,Map<BlockPos,TileCost>> COSTS = new HashMap<>();
+  /** If true, costs are currently being recorded */
+  @Getter
+  private static boolean running = false;
+
+  /** Registers event listeners with the event bus */
+  public static void init() {
+    MinecraftForge.EVENT_BUS.addListener(TickCostTracker::onWorldUnload);
+  }
+
+  /** Clears all previous costs and starts recording */
+  public static void start() {
+    COSTS.clear();
+    running = true;
+  }
+
+  /** Stops recording, keeping the recorded costs */
+  public static void stop() {
+    running = false;
+  }
+
+  /**
+   * Gets the cost for the given tile
+   * @param tile  Tile entity
+   * @return  Cost, or null if not recording or on the client
+   */
+  @Nullable
+  private static TileCost getCost(TileEntity tile) {
+    if (!running) {
+      return null;
+    }
+    World world = tile.getWorld();
+    if (world == null || world.isRemote) {
+      return null;
+    }
+    BlockPos pos = tile.getPos();
+    return COSTS.computeIfAbsent(world, w -> new HashMap<>()).computeIfAbsent(pos, p -> new TileCost(p.toImmutable(), tile.getType().getRegistryName()));
+  }
+
+  /**
+   * Starts timing a tile tick
+   * @return  Start time to pass into {@link #endTick(TileEntity, long)}, or 0 if not recording
+   */
+  public static long startTick() {
+    return running ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Finishes timing a tile tick
+   * @param tile   Tile that ticked
+   * @param start  Start time from {@link #startTick()}
+   */
+  public static void endTick(TileEntity tile, long start) {
+    if (start != 0) {
+      TileCost cost = getCost(tile);
+      if (cost != null) {
+        cost.ticks++;
+        cost.nanos += System.nanoTime() - start;
+      }
+    }
+  }
+
+  /**
+   * Records a recipe lookup that missed the tile's cached recipe
+   * @param tile  Tile performing the lookup
+   */
+  public static void recipeLookup(TileEntity tile) {
+    TileCost cost = getCost(tile);
+    if (cost != null) {
+      cost.recipeLookups++;
+    }
+  }
+
+  /**
+   * Records a multiblock structure scan
+   * @param tile  Structure controller
+   */
+  public static void structureScan(TileEntity tile) {
+    TileCost cost = getCost(tile);
+    if (cost != null) {
+      cost.structureScans++;
+    }
+  }
+
+  /**
+   * Records a packet sent to clients
+   * @param tile  Tile sending the packet
+   */
+  public static void packet(TileEntity tile) {
+    TileCost cost = getCost(tile);
+    if (cost != null) {
+      cost.packets++;
+    }
+  }
+
+
+  /* Results */
+
+  /**
+   * Gets all recorded tile costs in the given world
+   * @param world  World
+   * @return  Tile costs
+   */
+  public static Collection<TileCost> getCosts(World world) {
+    Map<BlockPos,TileCost> costs = COSTS.get(world);
+    return costs == null ? Collections.emptyList() : costs.values();
+  }
+
+  /**
+   * Gets the most expensive tiles in the given world
+   * @param world  World
+   * @param count  Maximum number of tiles to return
+   * @return  Tiles sorted by total tick time, most expensive first
+   */
+  public static List<TileCost> getTopTiles(World world, int count) {
+    List<TileCost> sorted = new ArrayList<>(getCosts(world));
+    sorted.sort(Comparator.comparingLong(Cost::getNanos).reversed());
+    return sorted.size() > count ? sorted.subList(0, count) : sorted;
+  }
+
+  /**
+   * Gets the most expensive chunks in the given world, summing all tiles in each chunk
+   * @param world  World
+   * @param count  Maximum number of chunks to return
+   * @return  Chunks sorted by total tick time, most expensive first
+   */
+  public static List<ChunkCost> getTopChunks(World world, int count) {
+    Map<ChunkPos,ChunkCost> chunks = new HashMap<>();
+    for (TileCost cost : getCosts(world)) {
+      chunks.computeIfAbsent(new ChunkPos(cost.pos), ChunkCost::new).add(cost);
+    }
+    List<ChunkCost> sorted = new ArrayList<>(chunks.values());
+    sorted.sort(Comparator.comparingLong(Cost::getNanos).reversed());
+    return sorted.size() > count ? sorted.subList(0, count) : sorted;
+  }
+
+  /**
+   * Gets the total cost of all tiles in the given world
+   * @param world  World
+   * @return  Total cost
+   */
+  public static Cost getTotal(World world) {
+    Cost total = new Cost();
+    for (TileCost cost : getCosts(world)) {
+      total.add(cost);
+    }
+    return total;
+  }
+
+  /** Recorded counters, for a tile or an aggregate of tiles */
+  @Getter
+  public static class Cost {
+    /** Total time spent ticking */
+    protected long nanos;
+    /** Number of timed ticks */
+    protected int ticks;
+    /** Number of recipe lookups */
+    protected int recipeLookups;
+    /** Number of structure scans */
+    protected int structureScans;
+    /** Number of packets sent */
+    protected int packets;
+
+    /** Adds the given cost to this cost */
+    protected void add(Cost other) {
+      nanos += other.nanos;
+      ticks += other.ticks;
+      recipeLookups += other.recipeLookups;
+      structureScans += other.structureScans;
+      packets += other.packets;
+    }
+
+    /** Gets the average tick time in microseconds */
+    public double getMicrosPerTick() {
+      return ticks == 0 ? 0 : nanos / 1000.0 / ticks;
+    }
+  }
+
+  /** Cost of a single tile */
+  @Getter
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class TileCost extends Cost {
+    private final BlockPos pos;
+    /** Tile entity type name */
+    @Nullable
+    private final ResourceLocation type;
+  }
+
+  /** Total cost of all tiles in a chunk */
+  @Getter
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public static class ChunkCost extends Cost {
+    private final ChunkPos pos;
+  }
+
+  /** Clears all costs for an unloaded world */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    COSTS.remove(event.getWorld());
+  }
+}
@@ -20,6 +20,7 @@ import net.minecraftforge.fluids.capability.IFluidHandler;
 import slimeknights.mantle.client.model.data.SinglePropertyData;
 import slimeknights.tconstruct.library.client.model.ModelProperties;
 import slimeknights.tconstruct.library.fluid.FluidTankAnimated;
+import slimeknights.tconstruct.library.fluid.IFluidTankUpdater;
 import slimeknights.tconstruct.library.utils.NBTTags;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.component.SearedTankBlock.TankType;
@@ -28,6 +29,9 @@ import slimeknights.tconstruct.smeltery.tileentity.ITankTileEntity;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class TankTileEntity extends SmelteryComponentTileEntity implements ITankTileEntity {
   /** Max capacity for the tank */
@@ -67,6 +71,8 @@ public class TankTileEntity extends SmelteryComponentTileEntity implements ITank
   /** Last comparator strength to reduce block updates */
   @Getter @Setter
   private int lastStrength = -1;
+  /** Listeners notified when the tank contents change, held weakly so listeners do not need to be removed */
+  private final Set<IFluidTankUpdater> tankListeners = Collections.newSetFromMap(new WeakHashMap<>());
 
   public TankTileEntity() {
     this(TinkerSmeltery.searedTank.get(TankType.FUEL_TANK));
@@ -111,12 +117,23 @@ public class TankTileEntity extends SmelteryComponentTileEntity implements ITank
     return modelData;
   }
 
+  /**
+   * Adds a listener to be notified when the tank contents change on the server
+   * @param listener  Listener to add, held weakly
+   */
+  public void addTankListener(IFluidTankUpdater listener) {
+    tankListeners.add(listener);
+  }
+
   @Override
   public void onTankContentsChanged() {
     ITankTileEntity.super.onTankContentsChanged();
     if (this.world != null) {
       world.getLightManager().checkBlock(this.pos);
     }
+    for (IFluidTankUpdater listener : tankListeners) {
+      listener.onTankContentsChanged();
+    }
   }
 
   @Override
@@ -26,6 +26,7 @@ import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
 import slimeknights.tconstruct.smeltery.block.controller.MelterBlock;
 import slimeknights.tconstruct.smeltery.inventory.AlloyerContainer;
 import slimeknights.tconstruct.smeltery.tileentity.ITankTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 import slimeknights.tconstruct.smeltery.tileentity.module.FuelModule;
 import slimeknights.tconstruct.smeltery.tileentity.module.alloying.MixerAlloyTank;
 import slimeknights.tconstruct.smeltery.tileentity.module.alloying.SingleAlloyingModule;
@@ -105,6 +106,7 @@ public class AlloyerTileEntity extends NamableTileEntity implements ITankTileEnt
     if (world == null || world.isRemote || !isFormed()) {
       return;
     }
+    long start = TickCostTracker.startTick();
 
     switch (tick) {
       // tick 0: find fuel
@@ -140,6 +142,7 @@ public class AlloyerTileEntity extends NamableTileEntity implements ITankTileEnt
       }
     }
     tick = (tick + 1) % 4;
+    TickCostTracker.endTick(this, start);
   }
 
   /**
@@ -26,9 +26,9 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
-import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.client.model.data.SinglePropertyData;
 import slimeknights.mantle.tileentity.NamableTileEntity;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.multiblock.IMasterLogic;
 import slimeknights.tconstruct.common.multiblock.IServantLogic;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
@@ -42,7 +42,11 @@ import slimeknights.tconstruct.smeltery.tileentity.module.FuelModule;
 import slimeknights.tconstruct.smeltery.tileentity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.HeatingStructureMultiblock;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.HeatingStructureMultiblock.StructureData;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.IStructureChangeListener;
 import slimeknights.tconstruct.smeltery.tileentity.multiblock.MultiblockResult;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.MultiblockStructureData;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.StructureChangeTracker;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 import slimeknights.tconstruct.smeltery.tileentity.tank.IDisplayFluidListener;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler;
 import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
@@ -56,7 +60,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
-public abstract class HeatingStructureTileEntity extends NamableTileEntity implements ITickableTileEntity, IMasterLogic, ISmelteryTankHandler {
+public abstract class HeatingStructureTileEntity extends NamableTileEntity implements ITickableTileEntity, IMasterLogic, ISmelteryTankHandler, IStructureChangeListener {
   private static final String TAG_STRUCTURE = "structure";
   private static final String TAG_TANK = "tank";
   private static final String TAG_INVENTORY = "inventory";
@@ -96,7 +100,7 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
 
 
   /** Module handling entity interaction */
-  protected final EntityMeltingModule entityModule = new EntityMeltingModule(this, tank, this::canMeltEntities, this::insertIntoInventory, () -> structure == null ? null : structure.getBounds());
+  protected final EntityMeltingModule entityModule = new EntityMeltingModule(this, tank, this::canMeltEntities, meltingInventory, () -> structure == null ? null : structure.getBounds());
 
 
   /* Instance data, this data is not written to NBT */
@@ -106,10 +110,21 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
   private int expandCounter = 0;
   /** If true, structure will check for an update next tick */
   private boolean structureUpdateQueued = false;
+  /** Position that changed for the queued structure update, null if a full check is needed */
+  @Nullable
+  private BlockPos structureChangePos = null;
+  /** If true, a block near the unformed structure changed, so the next full scan should run. Scans are limited to once a second as any block update nearby sets this */
+  private boolean unformedChanged = true;
   /** If true, fluids have changed since the last update and should be synced to the client, synced at most once every 4 ticks */
   private boolean fluidUpdateQueued = false;
   /** Cache of the bounds for the case of no structure */
   private AxisAlignedBB defaultBounds;
+  /** Structure the change listener was registered for, used to detect when the listener area is outdated */
+  @Nullable
+  private StructureData listenerStructure;
+  /** Min and max position of the area registered with the change tracker, null if not registered */
+  @Nullable
+  private BlockPos listenerMin, listenerMax;
 
   /* Client display */
   @Getter
@@ -143,6 +158,7 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     BlockPos oldErrorPos = this.errorPos;
     this.errorPos = multiblock.getLastResult().getPos();
     if (!Objects.equals(oldErrorPos, errorPos)) {
+      TickCostTracker.packet(this);
       TinkerNetwork.getInstance().sendToClientsAround(new StructureErrorPositionPacket(pos, errorPos), world, pos);
     }
   }
@@ -160,6 +176,7 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     if (!state.hasProperty(ControllerBlock.IN_STRUCTURE)) {
       return;
     }
+    long start = TickCostTracker.startTick();
 
     // run structure update if requested
     if (structureUpdateQueued) {
@@ -167,25 +184,31 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
       structureUpdateQueued = false;
     }
 
+    // when using block updates, no need to poll the structure
+    boolean eventChecks = Config.COMMON.eventStructureChecks.get();
+    updateChangeListener(eventChecks);
+
     // if we have a structure, run smeltery logic
     if (structure != null && state.get(SmelteryControllerBlock.IN_STRUCTURE)) {
-      // every 15 seconds, check above the smeltery to try to expand
-      if (tick == 0) {
-        expandCounter++;
-        if (expandCounter >= 10 && structure.getInnerY() < multiblock.getMaxHeight()) {
-          expandCounter = 0;
-          // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
-          if (multiblock.canExpand(structure, world)) {
+      if (!eventChecks) {
+        // every 15 seconds, check above the smeltery to try to expand
+        if (tick == 0) {
+          expandCounter++;
+          if (expandCounter >= 10 && structure.getInnerY() < multiblock.getMaxHeight()) {
+            expandCounter = 0;
+            // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
+            if (multiblock.canExpand(structure, world)) {
+              updateStructure(structure.getMaxPos().up());
+            } else {
+              updateErrorPos();
+            }
+          }
+        } else if (tick % 4 == 0) {
+          // check the next inside position to see if its a valid inner block every other tick
+          if (!multiblock.isInnerBlock(world, structure.getNextInsideCheck())) {
             updateStructure();
-          } else {
-            updateErrorPos();
           }
         }
-      } else if (tick % 4 == 0) {
-        // check the next inside position to see if its a valid inner block every other tick
-        if (!multiblock.isInnerBlock(world, structure.getNextInsideCheck())) {
-          updateStructure();
-        }
       }
 
       // main heating logic
@@ -198,12 +221,14 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
           tank.syncFluids();
         }
       }
-    } else if (tick == 0) {
+    } else if (tick == 0 && (!eventChecks || unformedChanged)) {
+      unformedChanged = false;
       updateStructure();
     }
 
     // update tick timer
     tick = (tick + 1) % 20;
+    TickCostTracker.endTick(this, start);
   }
 
   /**
@@ -248,6 +273,21 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
    */
   public void updateStructure() {
     structureUpdateQueued = true;
+    structureChangePos = null;
+  }
+
+  /**
+   * Marks the smeltery for a structure check after a single block changed, allowing the check to only recheck that layer
+   * @param changed  Position that changed
+   */
+  public void updateStructure(BlockPos changed) {
+    if (!structureUpdateQueued) {
+      structureUpdateQueued = true;
+      structureChangePos = changed.toImmutable();
+    } else if (structureChangePos != null && structureChangePos.getY() != changed.getY()) {
+      // changes in multiple layers need a full check
+      structureChangePos = null;
+    }
   }
 
   /**
@@ -265,9 +305,23 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     if (world == null || world.isRemote) {
       return;
     }
+    TickCostTracker.structureScan(this);
     boolean wasFormed = getBlockState().get(ControllerBlock.IN_STRUCTURE);
     StructureData oldStructure = structure;
-    StructureData newStructure = multiblock.detectMultiblock(world, pos, getBlockState().get(BlockStateProperties.HORIZONTAL_FACING));
+    Direction facing = getBlockState().get(BlockStateProperties.HORIZONTAL_FACING);
+    StructureData newStructure;
+    if (oldStructure != null && structureChangePos != null) {
+      newStructure = multiblock.updateMultiblock(world, pos, facing, oldStructure, structureChangePos);
+    } else {
+      newStructure = multiblock.detectMultiblock(world, pos, facing);
+    }
+    structureChangePos = null;
+
+    // structure is unchanged, though the error position may have moved
+    if (newStructure != null && newStructure == oldStructure) {
+      updateErrorPos();
+      return;
+    }
 
     // update block state
     boolean formed = newStructure != null;
@@ -278,6 +332,7 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     // structure info updates
     if (formed) {
       // sync size to the client
+      TickCostTracker.packet(this);
       TinkerNetwork.getInstance().sendToClientsAround(
         new StructureUpdatePacket(pos, newStructure.getMinPos(), newStructure.getMaxPos(), newStructure.getTanks()), world, pos);
 
@@ -321,6 +376,75 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     }
   }
 
+  /**
+   * Updates the area registered with the structure change tracker
+   * @param enabled  If false, removes any registered listener
+   */
+  private void updateChangeListener(boolean enabled) {
+    // if already registered for this structure, nothing to do
+    if (enabled && listenerMin != null && listenerStructure == structure) {
+      return;
+    }
+    removeChangeListener();
+    if (enabled && world != null) {
+      if (structure != null) {
+        // structure bounds, plus the layer above for expanding
+        listenerMin = structure.getMinPos();
+        listenerMax = structure.getMaxPos().up();
+      } else {
+        // area that could contain a structure for this controller: the controller is in the front wall, with the inside behind it
+        // the center column is directly behind the controller, so the walls are at most the inner limit to either side
+        Direction facing = getBlockState().get(BlockStateProperties.HORIZONTAL_FACING);
+        Direction side = facing.rotateY();
+        int inner = multiblock.getInnerLimit();
+        int height = multiblock.getMaxHeight();
+        BlockPos front = pos.offset(side, inner).down(height + 1);
+        BlockPos back = pos.offset(facing.getOpposite(), inner + 1).offset(side, -inner).up(height);
+        listenerMin = new BlockPos(Math.min(front.getX(), back.getX()), front.getY(), Math.min(front.getZ(), back.getZ()));
+        listenerMax = new BlockPos(Math.max(front.getX(), back.getX()), back.getY(), Math.max(front.getZ(), back.getZ()));
+      }
+      listenerStructure = structure;
+      StructureChangeTracker.register(world, this, listenerMin, listenerMax);
+    }
+  }
+
+  /** Removes this structure from the change tracker */
+  private void removeChangeListener() {
+    if (listenerMin != null && listenerMax != null && world != null) {
+      StructureChangeTracker.unregister(world, this, listenerMin, listenerMax);
+    }
+    listenerMin = null;
+    listenerMax = null;
+    listenerStructure = null;
+  }
+
+  @Override
+  public void onStructureBlockChanged(BlockPos pos, BlockState state) {
+    if (world == null || listenerMin == null || listenerMax == null) {
+      return;
+    }
+    if (structure == null) {
+      // no structure means any change nearby could form one, but a full scan is expensive so just mark it for the next periodic check
+      if (MultiblockStructureData.isWithin(pos, listenerMin, listenerMax)) {
+        unformedChanged = true;
+      }
+    } else if (multiblock.shouldUpdate(world, structure, pos, state)) {
+      updateStructure(pos);
+    }
+  }
+
+  @Override
+  public void remove() {
+    super.remove();
+    removeChangeListener();
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    removeChangeListener();
+  }
+
   @Override
   public void notifyChange(IServantLogic servant, BlockPos pos, BlockState state) {
     // structure invalid? can ignore this, will automatically check later
@@ -330,7 +454,7 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
 
     assert world != null;
     if (multiblock.shouldUpdate(world, structure, pos, state)) {
-      updateStructure();
+      updateStructure(pos);
     }
   }
 
@@ -424,14 +548,6 @@ public abstract class HeatingStructureTileEntity extends NamableTileEntity imple
     return fuelModule.findFuel(false) > 0;
   }
 
-  /**
-   * Inserts an item into the inventory
-   * @param stack  Stack to insert
-   */
-  private ItemStack insertIntoInventory(ItemStack stack) {
-    return ItemHandlerHelper.insertItem(meltingInventory, stack, false);
-  }
-
 
   /* UI and sync */
 
@@ -33,6 +33,7 @@ import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
 import slimeknights.tconstruct.smeltery.block.controller.MelterBlock;
 import slimeknights.tconstruct.smeltery.inventory.MelterContainer;
 import slimeknights.tconstruct.smeltery.tileentity.ITankTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 import slimeknights.tconstruct.smeltery.tileentity.module.FuelModule;
 import slimeknights.tconstruct.smeltery.tileentity.module.MeltingModuleInventory;
 
@@ -131,6 +132,7 @@ public class MelterTileEntity extends NamableTileEntity implements ITankTileEnti
 
     // are we fully formed?
     if (isFormed()) {
+      long start = TickCostTracker.startTick();
 
       switch (tick) {
         // tick 0: find fuel
@@ -163,6 +165,7 @@ public class MelterTileEntity extends NamableTileEntity implements ITankTileEnti
         }
       }
       tick = (tick + 1) % 4;
+      TickCostTracker.endTick(this, start);
     }
   }
 
@@ -128,10 +128,10 @@ public class SmelteryTileEntity extends HeatingStructureTileEntity {
   public void notifyFluidsChanged(FluidChange type, FluidStack fluid) {
     super.notifyFluidsChanged(type, fluid);
 
-    // adding a new fluid means recipes that previously did not match might match now
+    // adding a new fluid means recipes using that fluid might match now
     // can ignore removing a fluid as that is handled internally by the module
     if (type == FluidChange.ADDED) {
-      alloyingModule.clearCachedRecipes();
+      alloyingModule.onFluidAdded(fluid);
     }
   }
 }
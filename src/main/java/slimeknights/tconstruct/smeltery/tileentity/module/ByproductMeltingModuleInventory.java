@@ -18,7 +18,7 @@ public class ByproductMeltingModuleInventory extends MeltingModuleInventory {
   @Override
   protected boolean tryFillTank(int index, IMeltingRecipe recipe) {
     if (super.tryFillTank(index, recipe)) {
-      recipe.handleByproducts(getModule(index), fluidHandler);
+      recipe.handleByproducts(getModule(index), getOutputHandler());
       return true;
     }
     return false;
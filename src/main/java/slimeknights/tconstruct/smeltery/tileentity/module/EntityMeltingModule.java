@@ -17,15 +17,20 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags.EntityTypes;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.fluids.TinkerFluids;
+import slimeknights.tconstruct.library.recipe.EntityRecipeLookup;
 import slimeknights.tconstruct.library.recipe.FluidValues;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
-import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
+import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
-import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -42,13 +47,17 @@ public class EntityMeltingModule {
   private final IFluidHandler tank;
   /** Supplier that returns true if the tank has space */
   private final BooleanSupplier canMeltEntities;
-  /** Function that tries to insert an item into the inventory */
-  private final Function<ItemStack, ItemStack> insertFunction;
+  /** Inventory receiving items from item entities */
+  private final MeltingModuleInventory inventory;
   /** Function that returns the bounds to check for entities */
   private final Supplier<AxisAlignedBB> bounds;
 
-  @Nullable
-  private EntityMeltingRecipe lastRecipe;
+  /** Melting behavior for each entity type found this tick, cleared at the start of each tick */
+  private final Map<EntityType<?>,TypeMelting> typeCache = new IdentityHashMap<>();
+  /** Fluid produced by damaged entities this tick, merged by fluid so the tank is filled once */
+  private final List<FluidStack> meltedFluids = new ArrayList<>();
+  /** Index of the first entity to damage next tick, used to spread a limited budget across all entities */
+  private int nextEntity = 0;
 
   /** Gets a nonnull world instance from the parent */
   private World getWorld() {
@@ -62,15 +71,7 @@ public class EntityMeltingModule {
    */
   @Nullable
   private EntityMeltingRecipe findRecipe(EntityType<?> type) {
-    if (lastRecipe != null && lastRecipe.matches(type)) {
-      return lastRecipe;
-    }
-    // find a new recipe if the last recipe does not match
-    EntityMeltingRecipe recipe = EntityMeltingRecipeCache.findRecipe(getWorld().getRecipeManager(), type);
-    if (recipe != null) {
-      lastRecipe = recipe;
-    }
-    return recipe;
+    return EntityRecipeLookup.findMeltingRecipe(getWorld().getRecipeManager(), type);
   }
 
   /**
@@ -96,6 +97,25 @@ public class EntityMeltingModule {
            && !entity.isPotionActive(Effects.FIRE_RESISTANCE);
   }
 
+  /**
+   * Gets the melting behavior for the given type, cached for the current tick
+   * @param type  Entity type
+   * @return  Type melting behavior
+   */
+  private TypeMelting getTypeMelting(EntityType<?> type) {
+    TypeMelting melting = typeCache.get(type);
+    if (melting == null) {
+      // if the type is hidden, skip it, I suppose thats your blacklist if you must have one
+      if (EntityTypes.MELTING_HIDE.contains(type)) {
+        melting = TypeMelting.HIDDEN;
+      } else {
+        melting = new TypeMelting(findRecipe(type));
+      }
+      typeCache.put(type, melting);
+    }
+    return melting;
+  }
+
   /**
    * Interacts with entities in the structure
    * @return True if something was melted and fuel is needed
@@ -106,56 +126,125 @@ public class EntityMeltingModule {
       return false;
     }
 
+    // items are placed inside the smeltery, insert all stacks in a single pass over the slots
+    World world = getWorld();
+    List<ItemEntity> items = world.getEntitiesWithinAABB(ItemEntity.class, boundingBox, Entity::isAlive);
+    if (!items.isEmpty()) {
+      List<ItemStack> stacks = new ArrayList<>(items.size());
+      for (ItemEntity item : items) {
+        stacks.add(item.getItem().copy());
+      }
+      if (inventory.insertItems(stacks)) {
+        for (int i = 0; i < items.size(); i++) {
+          ItemEntity itemEntity = items.get(i);
+          ItemStack stack = stacks.get(i);
+          // picked up whole stack
+          if (stack.isEmpty()) {
+            itemEntity.remove();
+          } else if (stack.getCount() != itemEntity.getItem().getCount()) {
+            itemEntity.setItem(stack);
+          }
+        }
+      }
+    }
+
+    // only can melt living, ensure its not immune to our damage
+    List<LivingEntity> entities = world.getEntitiesWithinAABB(LivingEntity.class, boundingBox, Entity::isAlive);
+    if (entities.isEmpty()) {
+      return false;
+    }
+    typeCache.clear();
+    // if limited, start where we left off last tick so every entity is eventually damaged
+    int count = entities.size();
+    int budget = Config.COMMON.entityMeltingBudget.get();
+    int start = 0;
+    if (budget > 0 && count > budget) {
+      start = nextEntity % count;
+    } else {
+      budget = count;
+    }
     Boolean canMelt = null;
     boolean melted = false;
-    for (Entity entity : getWorld().getEntitiesWithinAABB(Entity.class, boundingBox)) {
-      if (!entity.isAlive()) {
+    int visited = 0;
+    for (; visited < count && budget > 0; visited++) {
+      LivingEntity entity = entities.get((start + visited) % count);
+      TypeMelting melting = getTypeMelting(entity.getType());
+      if (melting == TypeMelting.HIDDEN || !canMeltEntity(entity)) {
         continue;
       }
-
-      // items are placed inside the smeltery
-      EntityType<?> type = entity.getType();
-      if (entity instanceof ItemEntity) {
-        ItemEntity itemEntity = (ItemEntity) entity;
-        ItemStack stack = insertFunction.apply(itemEntity.getItem());
-        // picked up whole stack
-        if (stack.isEmpty()) {
-          entity.remove();
-        } else {
-          itemEntity.setItem(stack);
+      // only fetch boolean once, its not the fastest as it tries to consume fuel
+      if (canMelt == null) {
+        canMelt = canMeltEntities.getAsBoolean();
+        // ensure we have fuel/any other needed smeltery states
+        if (!canMelt) {
+          break;
         }
       }
 
-      // only can melt living, ensure its not immune to our damage
-      // if canMelt is already found as false, skip instance checks, we only care about items now
-      // if the type is hidden, skip as well, I suppose thats your blacklist if you must have one
-      else if (canMelt != Boolean.FALSE && !EntityTypes.MELTING_HIDE.contains(type) && entity instanceof LivingEntity && canMeltEntity((LivingEntity)entity)) {
-        // only fetch boolean once, its not the fastest as it tries to consume fuel
-        if (canMelt == null) canMelt = canMeltEntities.getAsBoolean();
-
-        // ensure we have fuel/any other needed smeltery states
-        if (canMelt) {
-          // determine what we are melting
-          FluidStack fluid;
-          int damage;
-          EntityMeltingRecipe recipe = findRecipe(entity.getType());
-          if (recipe != null) {
-            fluid = recipe.getOutput((LivingEntity) entity);
-            damage = recipe.getDamage();
-          } else {
-            fluid = getDefaultFluid();
-            damage = 2;
-          }
+      // determine what we are melting
+      FluidStack fluid;
+      int damage;
+      EntityMeltingRecipe recipe = melting.recipe;
+      if (recipe != null) {
+        fluid = recipe.getOutput(entity);
+        damage = recipe.getDamage();
+      } else {
+        fluid = getDefaultFluid();
+        damage = 2;
+      }
 
-          // if the entity is successfully damaged, fill the tank with fluid
-          if (entity.attackEntityFrom(entity.isImmuneToFire() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
-            // its fine if we don't fill it all, leftover fluid is just lost
-            tank.fill(fluid, FluidAction.EXECUTE);
-            melted = true;
-          }
-        }
+      // if the entity is successfully damaged, queue the fluid for the tank
+      budget--;
+      if (entity.attackEntityFrom(entity.isImmuneToFire() ? SMELTERY_MAGIC : SMELTERY_DAMAGE, damage)) {
+        addMeltedFluid(fluid);
+        melted = true;
       }
     }
+    nextEntity = start + visited;
+    if (melted) {
+      fillMeltedFluids();
+    }
     return melted;
   }
+
+  /**
+   * Adds fluid from a damaged entity, merging it with other entities producing the same fluid
+   * @param fluid  Fluid to add
+   */
+  private void addMeltedFluid(FluidStack fluid) {
+    if (fluid.isEmpty()) {
+      return;
+    }
+    for (FluidStack melted : meltedFluids) {
+      if (melted.isFluidEqual(fluid)) {
+        melted.grow(fluid.getAmount());
+        return;
+      }
+    }
+    meltedFluids.add(fluid.copy());
+  }
+
+  /** Fills the tank with all fluid produced this tick */
+  private void fillMeltedFluids() {
+    // its fine if we don't fill it all, leftover fluid is just lost
+    if (tank instanceof SmelteryTank) {
+      ((SmelteryTank)tank).fillAll(meltedFluids);
+    } else {
+      for (FluidStack fluid : meltedFluids) {
+        tank.fill(fluid, FluidAction.EXECUTE);
+      }
+    }
+    meltedFluids.clear();
+  }
+
+  /** Melting behavior shared by all entities of a type */
+  @RequiredArgsConstructor
+  private static class TypeMelting {
+    /** Instance for types that may not be melted */
+    private static final TypeMelting HIDDEN = new TypeMelting(null);
+
+    /** Recipe for the type, null to use the default fluid */
+    @Nullable
+    private final EntityMeltingRecipe recipe;
+  }
 }
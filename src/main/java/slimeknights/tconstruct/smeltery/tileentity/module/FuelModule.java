@@ -27,10 +27,12 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
 import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.fluid.IFluidTankUpdater;
 import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.fuel.MeltingFuel;
 import slimeknights.tconstruct.library.recipe.fuel.MeltingFuelLookup;
 import slimeknights.tconstruct.library.utils.TagUtil;
+import slimeknights.tconstruct.smeltery.tileentity.component.TankTileEntity;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -71,6 +73,13 @@ public class FuelModule implements IIntArray {
   @Nullable
   private BlockPos lastPos = null;
 
+  /** Tank positions used to build {@link #sources} */
+  @Nullable
+  private List<BlockPos> sourcePositions;
+  /** Cached fuel source for each tank position, null if not yet built */
+  @Nullable
+  private List<FuelSource> sources;
+
 
   /** Client fuel display */
   private List<LazyOptional<IFluidHandler>> tankDisplayHandlers;
@@ -298,10 +307,10 @@ public class FuelModule implements IIntArray {
     }
 
     // find a new handler among our tanks
-    for (BlockPos pos : tankSupplier.get()) {
+    for (FuelSource source : getSources()) {
       // already checked the last position above, no reason to try again
-      if (!pos.equals(lastPos)) {
-        int posTemp = tryFindFuel(pos, consume);
+      if (!source.pos.equals(lastPos)) {
+        int posTemp = source.tryFuel(consume);
         if (posTemp > 0) {
           return posTemp;
         }
@@ -315,6 +324,139 @@ public class FuelModule implements IIntArray {
     return 0;
   }
 
+  /**
+   * Gets the fuel source for each tank, rebuilding them if the tank positions changed
+   * @return  List of fuel sources
+   */
+  private List<FuelSource> getSources() {
+    List<BlockPos> positions = tankSupplier.get();
+    if (sources == null || !positions.equals(sourcePositions)) {
+      sourcePositions = positions;
+      sources = new ArrayList<>(positions.size());
+      for (BlockPos pos : positions) {
+        sources.add(new FuelSource(pos));
+      }
+    }
+    return sources;
+  }
+
+  /**
+   * Fuel source at a single tank position. Tracks the capabilities at the position, and for our tanks the fuel temperature.
+   * The temperature is updated when the tank contents change, so tanks without fuel are skipped without checking their contents.
+   */
+  private class FuelSource implements IFluidTankUpdater {
+    private final BlockPos pos;
+    /** Listeners to clear the capabilities when invalidated */
+    private final NonNullConsumer<LazyOptional<IFluidHandler>> fluidInvalidation = new WeakConsumerWrapper<>(this, (self, cap) -> self.clear());
+    private final NonNullConsumer<LazyOptional<IItemHandler>> itemInvalidation = new WeakConsumerWrapper<>(this, (self, cap) -> self.clear());
+    /** Fluid capability at the position, null if not yet fetched */
+    @Nullable
+    private LazyOptional<IFluidHandler> fluidCap;
+    /** Item capability at the position, null if not yet fetched */
+    @Nullable
+    private LazyOptional<IItemHandler> itemCap;
+    /** If true, the source notifies this object when its contents change, so the temperature can be cached */
+    private boolean listening = false;
+    /** If true, the source changed since the temperature was last checked */
+    private boolean dirty = true;
+    /** Temperature of the source on the last check, 0 if no fuel */
+    private int temperature = 0;
+
+    private FuelSource(BlockPos pos) {
+      this.pos = pos;
+    }
+
+    /** Clears the cached capabilities, called when a capability is invalidated */
+    private void clear() {
+      fluidCap = null;
+      itemCap = null;
+      listening = false;
+      dirty = true;
+    }
+
+    @Override
+    public void onTankContentsChanged() {
+      dirty = true;
+    }
+
+    /**
+     * Fetches the capabilities at the position if missing
+     * @return  True if either capability is present
+     */
+    private boolean resolve() {
+      if (fluidCap == null || itemCap == null) {
+        TileEntity te = getWorld().getTileEntity(pos);
+        if (te == null) {
+          // no tile entity means no listener, check again next time
+          return false;
+        }
+        fluidCap = te.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY);
+        itemCap = te.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+        if (fluidCap.isPresent()) {
+          fluidCap.addListener(fluidInvalidation);
+        } else if (itemCap.isPresent()) {
+          itemCap.addListener(itemInvalidation);
+        } else {
+          // present but without a capability, check again next time
+          clear();
+          return false;
+        }
+        // our tanks tell us when they change, anything else is checked each time
+        if (te instanceof TankTileEntity && fluidCap.isPresent()) {
+          ((TankTileEntity)te).addTankListener(this);
+          listening = true;
+        }
+        dirty = true;
+      }
+      return true;
+    }
+
+    /**
+     * Tries to find fuel in this source
+     * @param consume  If true, fuel is consumed
+     * @return   Temperature of the fuel, 0 if none found
+     */
+    private int tryFuel(boolean consume) {
+      if (!resolve()) {
+        return 0;
+      }
+      assert fluidCap != null && itemCap != null;
+      // unchanged tank with no fuel is still empty, and if not consuming unchanged fuel is still the same temperature
+      if (listening && !dirty && (temperature == 0 || !consume)) {
+        if (temperature > 0) {
+          itemHandler = null;
+          fluidHandler = fluidCap;
+          fluidCap.addListener(fluidListener);
+          lastPos = pos;
+        }
+        return temperature;
+      }
+      // clear dirty before consuming so draining marks it dirty again
+      dirty = false;
+      int found;
+      if (fluidCap.isPresent()) {
+        found = fluidCap.map(tryLiquidFuel(consume)).orElse(0);
+        if (found > 0) {
+          itemHandler = null;
+          fluidHandler = fluidCap;
+          fluidCap.addListener(fluidListener);
+        }
+      } else {
+        found = itemCap.map(trySolidFuel(consume)).orElse(0);
+        if (found > 0) {
+          fluidHandler = null;
+          itemHandler = itemCap;
+          itemCap.addListener(itemListener);
+        }
+      }
+      if (found > 0) {
+        lastPos = pos;
+      }
+      temperature = found;
+      return found;
+    }
+  }
+
   /* NBT */
   private static final String TAG_FUEL = "fuel";
   private static final String TAG_TEMPERATURE = "temperature";
@@ -10,12 +10,12 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingInventory;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 
 import javax.annotation.Nullable;
-import java.util.Optional;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 
@@ -81,6 +81,7 @@ public class MeltingModule implements IMeltingInventory, IIntArray {
     // send a slot update to the client when items change, so we can update the TESR
     World world = parent.getWorld();
     if (slotIndex != -1 && world != null && !world.isRemote && !ItemStack.areItemStacksEqual(stack, newStack)) {
+      TickCostTracker.packet(parent);
       TinkerNetwork.getInstance().sendToClientsAround(new InventorySlotSyncPacket(newStack, slotIndex, parent.getPos()), world, parent.getPos());
     }
 
@@ -177,12 +178,12 @@ public class MeltingModule implements IMeltingInventory, IIntArray {
       return last;
     }
     // if that fails, try to find a new recipe
-    Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getRecipe(RecipeTypes.MELTING, this, world);
-    if (newRecipe.isPresent()) {
-      lastRecipe = newRecipe.get();
-      return lastRecipe;
+    TickCostTracker.recipeLookup(parent);
+    IMeltingRecipe newRecipe = MeltingRecipeLookup.findRecipe(this, world);
+    if (newRecipe != null) {
+      lastRecipe = newRecipe;
     }
-    return null;
+    return newRecipe;
   }
 
   /**
@@ -12,8 +12,12 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.smeltery.tileentity.tank.SmelteryTank;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.IntSupplier;
 
@@ -35,6 +39,11 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
   private final boolean strictSize;
   /** Number of nuggets to produce when melting an ore */
   private final IntSupplier nuggetsPerOre;
+  /** Batch collecting output during a heating pass, null if the fluid handler does not support batching */
+  @Nullable
+  private final OutputBatch batch;
+  /** If true, output is currently going into the batch */
+  private boolean batching = false;
 
   /**
    * Creates a new inventory with a fixed size
@@ -49,6 +58,7 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     this.modules = new MeltingModule[size];
     this.nuggetsPerOre = nuggetsPerOre;
     this.strictSize = size != 0;
+    this.batch = fluidHandler instanceof SmelteryTank ? new OutputBatch((SmelteryTank)fluidHandler) : null;
   }
 
   /**
@@ -216,6 +226,33 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     return canInsert ? ItemHandlerHelper.copyStackWithSize(stack, stack.getCount() - 1) : stack;
   }
 
+  /**
+   * Inserts a list of stacks into empty slots in a single pass over the inventory, one item per slot
+   * @param stacks  Stacks to insert, each is shrunk by the amount inserted
+   * @return  True if anything was inserted
+   */
+  public boolean insertItems(List<ItemStack> stacks) {
+    int slot = 0;
+    int slots = getSlots();
+    boolean inserted = false;
+    for (ItemStack stack : stacks) {
+      while (!stack.isEmpty()) {
+        // find the next empty slot, slots before this one are known to be full
+        while (slot < slots && modules[slot] != null && !modules[slot].getStack().isEmpty()) {
+          slot++;
+        }
+        if (slot == slots) {
+          return inserted;
+        }
+        setStackInSlot(slot, ItemHandlerHelper.copyStackWithSize(stack, 1));
+        stack.shrink(1);
+        inserted = true;
+        slot++;
+      }
+    }
+    return inserted;
+  }
+
   @Override
   public ItemStack extractItem(int slot, int amount, boolean simulate) {
     if (amount == 0) {
@@ -255,6 +292,14 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     return false;
   }
 
+  /**
+   * Gets the fluid handler to receive melting output. During a heating pass, this is the batch committed at the end of the pass
+   * @return  Output fluid handler
+   */
+  protected IFluidHandler getOutputHandler() {
+    return batching && batch != null ? batch : fluidHandler;
+  }
+
   /**
    * Tries to fill the fluid handler with the given fluid
    * @param index   Index of the module being filled
@@ -263,34 +308,52 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    */
   protected boolean tryFillTank(int index, IMeltingRecipe recipe) {
     FluidStack fluid = recipe.getOutput(getModule(index));
-    if (fluidHandler.fill(fluid.copy(), FluidAction.SIMULATE) == fluid.getAmount()) {
-      fluidHandler.fill(fluid, FluidAction.EXECUTE);
+    IFluidHandler handler = getOutputHandler();
+    if (handler.fill(fluid.copy(), FluidAction.SIMULATE) == fluid.getAmount()) {
+      handler.fill(fluid, FluidAction.EXECUTE);
       return true;
     }
     return false;
   }
 
+  /** Starts collecting melting output into the batch */
+  private void startBatch() {
+    batching = batch != null;
+  }
+
+  /** Commits all output from this pass into the tank */
+  private void commitBatch() {
+    if (batching && batch != null) {
+      batching = false;
+      batch.commit();
+    }
+  }
+
   /**
    * Heats all items in the inventory
    * @param temperature  Heating structure temperature
    */
   public void heatItems(int temperature) {
+    startBatch();
     for (MeltingModule module : modules) {
       if (module != null) {
         module.heatItem(temperature);
       }
     }
+    commitBatch();
   }
 
   /**
    * Cools down all items in the inventory, used when there is no fuel
    */
   public void coolItems() {
+    startBatch();
     for (MeltingModule module : modules) {
       if (module != null) {
         module.coolItem();
       }
     }
+    commitBatch();
   }
 
   /**
@@ -345,6 +408,88 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
   }
 
 
+  /* Batching */
+
+  /**
+   * Fluid handler collecting the output from all slots in a single heating pass, so the tank is filled and notified once per pass.
+   * Tracks the pending amount so simulated fills account for the output not yet committed.
+   */
+  private static class OutputBatch implements IFluidHandler {
+    private final SmelteryTank tank;
+    /** Pending output, merged by fluid. Typically only a few fluids melt in a single tick, so a list is faster than a map */
+    private final List<FluidStack> pending = new ArrayList<>();
+    /** Total amount of pending fluid */
+    private int pendingAmount = 0;
+
+    private OutputBatch(SmelteryTank tank) {
+      this.tank = tank;
+    }
+
+    /** Fills the tank with all pending fluids */
+    private void commit() {
+      if (!pending.isEmpty()) {
+        tank.fillAll(pending);
+        pending.clear();
+        pendingAmount = 0;
+      }
+    }
+
+    @Override
+    public int fill(FluidStack resource, FluidAction action) {
+      if (resource.isEmpty()) {
+        return 0;
+      }
+      int usable = Math.min(tank.getRemainingSpace() - pendingAmount, resource.getAmount());
+      if (usable <= 0) {
+        return 0;
+      }
+      if (action.execute()) {
+        pendingAmount += usable;
+        for (FluidStack fluid : pending) {
+          if (fluid.isFluidEqual(resource)) {
+            fluid.grow(usable);
+            return usable;
+          }
+        }
+        FluidStack copy = resource.copy();
+        copy.setAmount(usable);
+        pending.add(copy);
+      }
+      return usable;
+    }
+
+    @Override
+    public int getTanks() {
+      return tank.getTanks();
+    }
+
+    @Override
+    public FluidStack getFluidInTank(int index) {
+      return tank.getFluidInTank(index);
+    }
+
+    @Override
+    public int getTankCapacity(int index) {
+      return tank.getTankCapacity(index);
+    }
+
+    @Override
+    public boolean isFluidValid(int index, FluidStack stack) {
+      return tank.isFluidValid(index, stack);
+    }
+
+    @Override
+    public FluidStack drain(FluidStack resource, FluidAction action) {
+      return FluidStack.EMPTY;
+    }
+
+    @Override
+    public FluidStack drain(int maxDrain, FluidAction action) {
+      return FluidStack.EMPTY;
+    }
+  }
+
+
   /* Container sync */
 
   /**
@@ -1,17 +1,24 @@
 package slimeknights.tconstruct.smeltery.tileentity.module.alloying;
 
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
 import slimeknights.mantle.tileentity.MantleTileEntity;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /** Module to handle running alloys via a fluid handler, can alloy multiple recipes at once */
@@ -22,6 +29,8 @@ public class MultiAlloyingModule implements IAlloyingModule {
   /** List of recipes that succeeded last time in {@link #doAlloy()}, only these will be used for the next iteration */
   @Nullable
   private List<AlloyRecipe> lastRecipes;
+  /** Fluids added since the recipes were last fetched, merged into {@link #lastRecipes} on the next fetch as fluids may be added while iterating the recipes */
+  private final List<Fluid> addedFluids = new ArrayList<>();
 
   /** Predicates for common behaviors */
   private final Predicate<AlloyRecipe> canPerform, performRecipe;
@@ -47,7 +56,37 @@ public class MultiAlloyingModule implements IAlloyingModule {
    */
   private List<AlloyRecipe> getRecipes() {
     if (lastRecipes == null) {
-      lastRecipes = getWorld().getRecipeManager().getRecipes(RecipeTypes.ALLOYING, alloyTank, getWorld());
+      // candidates are the union of the recipes for each fluid in the tank, order does not matter as doAlloy shuffles them
+      TickCostTracker.recipeLookup(parent);
+      World world = getWorld();
+      RecipeManager manager = world.getRecipeManager();
+      List<AlloyRecipe> recipes = new ArrayList<>();
+      Set<AlloyRecipe> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (int i = 0; i < alloyTank.getTanks(); i++) {
+        FluidStack fluid = alloyTank.getFluidInTank(i);
+        if (!fluid.isEmpty()) {
+          for (AlloyRecipe recipe : AlloyRecipeLookup.getRecipes(manager, fluid.getFluid())) {
+            if (seen.add(recipe) && recipe.matches(alloyTank, world)) {
+              recipes.add(recipe);
+            }
+          }
+        }
+      }
+      lastRecipes = recipes;
+      addedFluids.clear();
+    } else if (!addedFluids.isEmpty()) {
+      // add any recipes using the new fluids that now match
+      TickCostTracker.recipeLookup(parent);
+      World world = getWorld();
+      RecipeManager manager = world.getRecipeManager();
+      for (Fluid fluid : addedFluids) {
+        for (AlloyRecipe recipe : AlloyRecipeLookup.getRecipes(manager, fluid)) {
+          if (!lastRecipes.contains(recipe) && recipe.matches(alloyTank, world)) {
+            lastRecipes.add(recipe);
+          }
+        }
+      }
+      addedFluids.clear();
     }
     return lastRecipes;
   }
@@ -101,4 +140,22 @@ public class MultiAlloyingModule implements IAlloyingModule {
   public void clearCachedRecipes() {
     lastRecipes = null;
   }
+
+  /**
+   * Called when the tank gains a new fluid to add any recipes using that fluid that now match.
+   * Recipes that no longer match are removed when iterating, so nothing is needed on removal.
+   * This may be called while performing recipes, so the recipes are added on the next fetch rather than modifying the list being iterated.
+   * @param fluid  Fluid added, if empty the cache is cleared as multiple fluids may have been added
+   */
+  public void onFluidAdded(FluidStack fluid) {
+    // if we have not yet fetched recipes, the next fetch will include the new fluid
+    if (lastRecipes == null) {
+      return;
+    }
+    if (fluid.isEmpty()) {
+      clearCachedRecipes();
+      return;
+    }
+    addedFluids.add(fluid.getFluid());
+  }
 }
@@ -6,6 +6,7 @@ import slimeknights.mantle.tileentity.MantleTileEntity;
 import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 
 import javax.annotation.Nullable;
 import java.util.Objects;
@@ -30,6 +31,7 @@ public class SingleAlloyingModule implements IAlloyingModule {
     if (lastRecipe != null && lastRecipe.canPerform(alloyTank)) {
       return lastRecipe;
     }
+    TickCostTracker.recipeLookup(parent);
     // fetch the first recipe that matches the inputs and fits in the tank
     // means if for some reason two recipes both are vaiud, the tank contents can be used to choose
     Optional<AlloyRecipe> recipe = world.getRecipeManager()
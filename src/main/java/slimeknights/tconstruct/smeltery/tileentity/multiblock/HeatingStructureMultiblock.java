@@ -1,6 +1,8 @@
 package slimeknights.tconstruct.smeltery.tileentity.multiblock;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import lombok.Getter;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -17,9 +19,7 @@ import slimeknights.tconstruct.smeltery.tileentity.multiblock.HeatingStructureMu
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 /**
  *
@@ -44,7 +44,7 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
   }
 
   @Override
-  public StructureData create(BlockPos min, BlockPos max, Set<BlockPos> extraPos) {
+  public StructureData create(BlockPos min, BlockPos max, LongSet extraPos) {
     // remove any tanks that are out of bounds, possible one got added in a layer later declared invalid
     // this might cause problems if we ever add a roof to the smeltery, possibly switch to a frame check?
     tanks.removeIf(pos -> !MultiblockStructureData.isWithin(pos, min, max));
@@ -58,7 +58,7 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
    * @return  Structure data
    */
   public StructureData createClient(BlockPos min, BlockPos max, List<BlockPos> tanks) {
-    return new StructureData(min, max, Collections.emptySet(), hasFloor, hasFrame, hasCeiling, tanks);
+    return new StructureData(min, max, LongSets.EMPTY_SET, hasFloor, hasFrame, hasCeiling, tanks);
   }
 
   @Override
@@ -68,6 +68,20 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
     return super.detectMultiblock(world, master, facing);
   }
 
+  @Override
+  @Nullable
+  public StructureData updateMultiblock(World world, BlockPos master, Direction facing, StructureData previous, BlockPos changed) {
+    // keep tanks from all other layers, the rechecked layer will add its tanks
+    tanks.clear();
+    int y = changed.getY();
+    for (BlockPos tank : previous.getTanks()) {
+      if (tank.getY() != y) {
+        tanks.add(tank);
+      }
+    }
+    return super.updateMultiblock(world, master, facing, previous, changed);
+  }
+
   /**
    * Reads the structure data from NBT
    * @param  nbt  NBT tag
@@ -177,7 +191,7 @@ public abstract class HeatingStructureMultiblock<T extends MantleTileEntity & IM
     /** Next position to check for inside checks */
     private BlockPos insideCheck;
 
-    protected StructureData(BlockPos minPos, BlockPos maxPos, Set<BlockPos> extraPositions, boolean hasFloor, boolean hasFrame, boolean hasCeiling, List<BlockPos> tanks) {
+    protected StructureData(BlockPos minPos, BlockPos maxPos, LongSet extraPositions, boolean hasFloor, boolean hasFrame, boolean hasCeiling, List<BlockPos> tanks) {
       super(minPos, maxPos, extraPositions, hasFloor, hasFrame, hasCeiling);
       this.tanks = tanks;
     }
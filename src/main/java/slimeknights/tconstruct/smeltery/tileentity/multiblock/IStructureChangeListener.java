@@ -0,0 +1,16 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Interface for structures to be notified of block changes in the area they registered with {@link StructureChangeTracker}
+ */
+public interface IStructureChangeListener {
+  /**
+   * Called when a block changes in a chunk this listener registered for. May be outside the registered area
+   * @param pos    Position that changed
+   * @param state  New block state
+   */
+  void onStructureBlockChanged(BlockPos pos, BlockState state);
+}
@@ -1,7 +1,11 @@
 package slimeknights.tconstruct.smeltery.tileentity.multiblock;
 
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -74,6 +77,7 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
   @Getter
   private final int maxHeight;
   /** Maximum inner size of the structure */
+  @Getter
   private final int innerLimit;
 
   /** Gets the last result of the structure */
@@ -97,7 +101,7 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
   @Nullable
   public T detectMultiblock(World world, BlockPos master, Direction facing) {
     // list of blocks that are part of the multiblock, but not in a standard position
-    ImmutableSet.Builder<BlockPos> extraBlocks = ImmutableSet.builder();
+    LongOpenHashSet extraBlocks = new LongOpenHashSet();
     // center is the lowest block behind in a position behind the controller
     BlockPos center = getOuterPos(world, master.offset(facing.getOpposite()), Direction.DOWN, maxHeight).up();
 
@@ -127,7 +131,7 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
     // for the rest of calculation, will use a from and a to position bounds
     BlockPos from = center.add(edges[WEST], 0, edges[NORTH]);
     BlockPos to = center.add(edges[EAST], 0, edges[SOUTH]);
-    Consumer<Collection<BlockPos>> posConsumer = extraBlocks::addAll;
+    Consumer<LongCollection> posConsumer = extraBlocks::addAll;
 
     // check the floor (frame check done inside)
     if (hasFloor) {
@@ -180,7 +184,99 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
     // max is at height, 1 down is the last successful layer if no ceiling
     BlockPos minPos = hasFloor ? from.down() : from;
     BlockPos maxPos = to.up(hasCeiling ? height : height - 1);
-    return create(minPos, maxPos, extraBlocks.build());
+    extraBlocks.trim();
+    return create(minPos, maxPos, extraBlocks);
+  }
+
+  /**
+   * Revalidates a previously detected structure after a block changed, rechecking only the layer containing the change.
+   * Falls back to {@link #detectMultiblock(World, BlockPos, Direction)} if the change may shrink or move the structure.
+   * @param world     World instance
+   * @param master    Position of the master
+   * @param facing    Direction the master is facing. Opposite is behind the controller
+   * @param previous  Structure from the last detection
+   * @param changed   Position that changed since the last detection. Multiple changes are fine if they are all in the same layer
+   * @return  Multiblock structure data, may be the previous instance if the change does not affect the structure
+   */
+  @Nullable
+  public T updateMultiblock(World world, BlockPos master, Direction facing, T previous, BlockPos changed) {
+    BlockPos min = previous.getMinPos();
+    BlockPos max = previous.getMaxPos();
+    // blocks outside the walls do not affect the structure
+    if (changed.getX() < min.getX() || changed.getX() > max.getX() || changed.getZ() < min.getZ() || changed.getZ() > max.getZ()) {
+      return previous;
+    }
+
+    int y = changed.getY();
+    LongList added = new LongArrayList();
+    Consumer<LongCollection> posConsumer = added::addAll;
+    if (y < min.getY()) {
+      // without a floor, the structure may extend downwards
+      return hasFloor ? previous : detectMultiblock(world, master, facing);
+    }
+    if (y > max.getY()) {
+      // only the layer directly above can expand the structure
+      if (hasCeiling || y != max.getY() + 1) {
+        return previous;
+      }
+      int bottom = hasFloor ? min.getY() + 1 : min.getY();
+      int top = bottom + Math.min(maxHeight, world.getHeight() - bottom);
+      int height = y;
+      MultiblockResult heightResult = TOO_HIGH;
+      for (; height < top; height++) {
+        heightResult = detectLayer(world, new BlockPos(min.getX(), height, min.getZ()), new BlockPos(max.getX(), height, max.getZ()), posConsumer);
+        if (!heightResult.isSuccess()) {
+          break;
+        }
+      }
+      if (height == top) {
+        heightResult = MultiblockResult.SUCCESS;
+      }
+      setLastResult(heightResult);
+      if (height == y) {
+        return previous;
+      }
+      return create(min, new BlockPos(max.getX(), height - 1, max.getZ()), patchExtra(previous.extra, Integer.MIN_VALUE, added));
+    }
+
+    // recheck the layer containing the change
+    BlockPos from = new BlockPos(min.getX(), y, min.getZ());
+    BlockPos to = new BlockPos(max.getX(), y, max.getZ());
+    MultiblockResult result;
+    if (hasFloor && y == min.getY()) {
+      result = detectCap(world, from, to, CuboidSide.FLOOR, posConsumer);
+    } else if (hasCeiling && y == max.getY()) {
+      result = detectCap(world, from, to, CuboidSide.CEILING, posConsumer);
+    } else {
+      result = detectLayer(world, from, to, posConsumer);
+    }
+    // an invalid layer means the structure shrinks or breaks, so need a full check to find the new size
+    if (!result.isSuccess()) {
+      return detectMultiblock(world, master, facing);
+    }
+    return create(min, max, patchExtra(previous.extra, y, added));
+  }
+
+  /**
+   * Creates a copy of the extra positions with a single layer replaced.
+   * Does not modify the original set as the previous structure is still used to update servants.
+   * @param extra  Previous extra positions
+   * @param y      Layer to replace
+   * @param added  New positions in the layer
+   * @return  Patched extra positions
+   */
+  private static LongSet patchExtra(LongSet extra, int y, LongCollection added) {
+    LongOpenHashSet patched = new LongOpenHashSet(extra.size() + added.size());
+    LongIterator iterator = extra.iterator();
+    while (iterator.hasNext()) {
+      long pos = iterator.nextLong();
+      if (BlockPos.unpackY(pos) != y) {
+        patched.add(pos);
+      }
+    }
+    patched.addAll(added);
+    patched.trim();
+    return patched;
   }
 
   /* Layer detection */
@@ -208,11 +304,11 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
    * @param from      Start position for the cap
    * @param to        End position for the cap
    * @param side      Side of the cube
-   * @param consumer  Consumer for any extra positions in this region, specifically frame positions when frame is disabled
+   * @param consumer  Consumer for any extra positions in this region packed using {@link BlockPos#toLong()}, specifically frame positions when frame is disabled
    * @return  True if this "cap" is valid, false if not
    */
   @SuppressWarnings("deprecation")
-  protected MultiblockResult detectCap(World world, BlockPos from, BlockPos to, CuboidSide side, Consumer<Collection<BlockPos>> consumer) {
+  protected MultiblockResult detectCap(World world, BlockPos from, BlockPos to, CuboidSide side, Consumer<LongCollection> consumer) {
     // ensure the area is loaded before trying
     if (!world.isAreaLoaded(from, to)) {
       return NOT_LOADED;
@@ -256,18 +352,18 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
    * @param world     World instance
    * @param from      Start position for the layer
    * @param to        End position for the layer
-   * @param consumer  Consumer for any extra positions in this region
+   * @param consumer  Consumer for any extra positions in this region, packed using {@link BlockPos#toLong()}
    * @return  True if this layer is valid, false otherwise
    */
   @SuppressWarnings("deprecation")
-  protected MultiblockResult detectLayer(World world, BlockPos from, BlockPos to, Consumer<Collection<BlockPos>> consumer) {
+  protected MultiblockResult detectLayer(World world, BlockPos from, BlockPos to, Consumer<LongCollection> consumer) {
     // ensure its loaded
     if(!world.isAreaLoaded(from, to)) {
       return NOT_LOADED;
     }
 
     // temporary list of position candidates, so we can only add them if successful
-    List<BlockPos> candidates = Lists.newArrayList();
+    LongList candidates = new LongArrayList();
 
     // validate frame first
     BlockPos.Mutable mutable = new BlockPos.Mutable();
@@ -291,7 +387,7 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
         if (isInnerBlock(world, mutable)) {
           // any non airblocks are added to extra blocks, this region is ignored by default
           if (!world.isAirBlock(mutable)) {
-            candidates.add(mutable.toImmutable());
+            candidates.add(mutable.toLong());
           }
         } else {
           return error(mutable.toImmutable(), INVALID_INNER_BLOCK);
@@ -368,18 +464,35 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
       return null;
     }
     // will be empty client side
-    Set<BlockPos> extra = ImmutableSet.copyOf(readPosList(nbt, MultiblockStructureData.TAG_EXTRA_POS));
-    return create(minPos, maxPos, extra);
+    return create(minPos, maxPos, readPosSet(nbt, MultiblockStructureData.TAG_EXTRA_POS));
   }
 
   /**
    * Creates a new instance from the given min and max bounds. Used to create the structure client side
    * @param min       Min pos
    * @param max       Max pos
-   * @param extraPos  Set of extra positons in the structure
+   * @param extraPos  Set of extra positons in the structure, packed using {@link BlockPos#toLong()}
    * @return  Structure from bounds
    */
-  public abstract T create(BlockPos min, BlockPos max, Set<BlockPos> extraPos);
+  public abstract T create(BlockPos min, BlockPos max, LongSet extraPos);
+
+  /**
+   * Reads a set of packed positions from NBT, supporting both long arrays and the older list of position compounds
+   * @param rootTag  Root NBT tag
+   * @param key      Key to read
+   * @return  Set of positions packed using {@link BlockPos#toLong()}
+   */
+  protected static LongSet readPosSet(CompoundNBT rootTag, String key) {
+    if (rootTag.contains(key, NBT.TAG_LONG_ARRAY)) {
+      return new LongOpenHashSet(rootTag.getLongArray(key));
+    }
+    Collection<BlockPos> list = readPosList(rootTag, key);
+    LongOpenHashSet set = new LongOpenHashSet(list.size());
+    for (BlockPos pos : list) {
+      set.add(pos.toLong());
+    }
+    return set;
+  }
 
   /**
    * Reads a set of positions from a NBT position list
@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.smeltery.tileentity.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import lombok.Getter;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
@@ -13,7 +14,6 @@ import slimeknights.tconstruct.library.utils.TagUtil;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -32,8 +32,8 @@ public class MultiblockStructureData {
   @Getter
   private final BlockPos maxPos;
 
-  /** Contains all positions not in the standard areas, typically inside */
-  protected final Set<BlockPos> extra;
+  /** Contains all positions not in the standard areas, typically inside. Positions are packed using {@link BlockPos#toLong()} */
+  protected final LongSet extra;
 
   /** Booleans to determine bound check parameters */
   private final boolean hasCeiling, hasFrame, hasFloor;
@@ -57,7 +57,7 @@ public class MultiblockStructureData {
   @Getter
   private final AxisAlignedBB bounds;
 
-  public MultiblockStructureData(BlockPos minPos, BlockPos maxPos, Set<BlockPos> extraPositons, boolean hasFloor, boolean hasFrame, boolean hasCeiling) {
+  public MultiblockStructureData(BlockPos minPos, BlockPos maxPos, LongSet extraPositons, boolean hasFloor, boolean hasFrame, boolean hasCeiling) {
     this.minPos = minPos;
     this.maxPos = maxPos;
     this.extra = extraPositons;
@@ -140,7 +140,7 @@ public class MultiblockStructureData {
 
     // inner blocks and frame blocks (no frame) can both be added
     // though note checking code does not currently support finding extra frame blocks
-    return extra.contains(pos);
+    return extra.contains(pos.toLong());
   }
 
   /**
@@ -238,7 +238,7 @@ public class MultiblockStructureData {
   public CompoundNBT writeToNBT() {
     CompoundNBT nbt = writeClientNBT();
     if (!extra.isEmpty()) {
-      nbt.put(TAG_EXTRA_POS, writePosList(extra));
+      nbt.putLongArray(TAG_EXTRA_POS, extra.toLongArray());
     }
     return nbt;
   }
@@ -0,0 +1,103 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per chunk index of structures listening for block changes, allowing structures to validate from block updates instead of polling their area.
+ * Only tracks changes that notify neighbors, which covers block placement, breaking, and fluid flow.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StructureChangeTracker {
+  /** Listeners for each world, indexed by chunk position */
+  private static final Map<IWorld,Long2ObjectMap<List<IStructureChangeListener>>> LISTENERS = new HashMap<>();
+
+  /** Registers event listeners with the event bus */
+  public static void init() {
+    MinecraftForge.EVENT_BUS.addListener(StructureChangeTracker::onNeighborNotify);
+    MinecraftForge.EVENT_BUS.addListener(StructureChangeTracker::onWorldUnload);
+  }
+
+  /**
+   * Registers a listener for all chunks covering the given area
+   * @param world     World instance
+   * @param listener  Listener to add
+   * @param min       Min position of the area
+   * @param max       Max position of the area
+   */
+  public static void register(IWorld world, IStructureChangeListener listener, BlockPos min, BlockPos max) {
+    Long2ObjectMap<List<IStructureChangeListener>> chunks = LISTENERS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+    for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++) {
+      for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++) {
+        List<IStructureChangeListener> list = chunks.computeIfAbsent(ChunkPos.asLong(x, z), k -> new ArrayList<>(1));
+        if (!list.contains(listener)) {
+          list.add(listener);
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes a listener from all chunks covering the given area
+   * @param world     World instance
+   * @param listener  Listener to remove
+   * @param min       Min position of the area, should match the call to {@link #register(IWorld, IStructureChangeListener, BlockPos, BlockPos)}
+   * @param max       Max position of the area, should match the call to {@link #register(IWorld, IStructureChangeListener, BlockPos, BlockPos)}
+   */
+  public static void unregister(IWorld world, IStructureChangeListener listener, BlockPos min, BlockPos max) {
+    Long2ObjectMap<List<IStructureChangeListener>> chunks = LISTENERS.get(world);
+    if (chunks == null) {
+      return;
+    }
+    for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++) {
+      for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++) {
+        long key = ChunkPos.asLong(x, z);
+        List<IStructureChangeListener> list = chunks.get(key);
+        if (list != null) {
+          list.remove(listener);
+          if (list.isEmpty()) {
+            chunks.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  /** Notifies all listeners in the chunk of the changed block */
+  private static void onNeighborNotify(NeighborNotifyEvent event) {
+    IWorld world = event.getWorld();
+    if (world.isRemote()) {
+      return;
+    }
+    Long2ObjectMap<List<IStructureChangeListener>> chunks = LISTENERS.get(world);
+    if (chunks == null) {
+      return;
+    }
+    BlockPos pos = event.getPos();
+    List<IStructureChangeListener> list = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    if (list != null) {
+      // listeners only queue updates, so the list will not change during iteration
+      for (IStructureChangeListener listener : list) {
+        listener.onStructureBlockChanged(pos, event.getState());
+      }
+    }
+  }
+
+  /** Clears all listeners for an unloaded world */
+  private static void onWorldUnload(WorldEvent.Unload event) {
+    LISTENERS.remove(event.getWorld());
+  }
+}
@@ -15,6 +15,7 @@ import net.minecraftforge.registries.ForgeRegistries;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 import slimeknights.tconstruct.smeltery.tileentity.CastingTileEntity;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 
 import java.util.Objects;
 
@@ -201,6 +202,7 @@ public class CastingFluidHandler implements IFluidHandler {
     tile.markDirty();
     World world = tile.getWorld();
     if (world != null && !world.isRemote) {
+      TickCostTracker.packet(tile);
       TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(tile.getPos(), this.getFluid()), world, tile.getPos());
     }
   }
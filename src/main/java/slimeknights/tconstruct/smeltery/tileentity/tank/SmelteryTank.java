@@ -1,7 +1,11 @@
 package slimeknights.tconstruct.smeltery.tileentity.tank;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.tileentity.TileEntity;
@@ -11,25 +15,61 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankDeltaPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
+import slimeknights.tconstruct.smeltery.tileentity.TickCostTracker;
 import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler.FluidChange;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Fluid handler implementation for the smeltery
  */
 public class SmelteryTank implements IFluidHandler {
+  /** Revision set when the client is waiting on a full sync, deltas are ignored until it arrives */
+  public static final int RESYNC_REVISION = -2;
+  /** Revision set when loading from NBT, as the NBT may not match the last sent delta */
+  private static final int UNKNOWN_REVISION = -1;
+  /** Minimum ticks between resync requests for a single tank */
+  private static final int RESYNC_COOLDOWN = 20;
+  /** Hash strategy matching fluid stacks by fluid and NBT, as {@link FluidStack#hashCode()} includes the amount */
+  private static final Hash.Strategy<FluidStack> FLUID_STRATEGY = new Hash.Strategy<FluidStack>() {
+    @Override
+    public int hashCode(@Nullable FluidStack stack) {
+      return stack == null ? 0 : 31 * stack.getFluid().hashCode() + Objects.hashCode(stack.getTag());
+    }
+
+    @Override
+    public boolean equals(@Nullable FluidStack a, @Nullable FluidStack b) {
+      if (a == b) {
+        return true;
+      }
+      return a != null && b != null && a.isFluidEqual(b);
+    }
+  };
+
   private final ISmelteryTankHandler parent;
-  /** Fluids actually contained in the tank */
+  /** Fluids actually contained in the tank, in display order from bottom to top */
   @Getter
   private final List<FluidStack> fluids;
+  /** Map from fluid and NBT to the stack in {@link #fluids}, used to find the stack to fill or drain without scanning the list */
+  private final Map<FluidStack,FluidStack> fluidLookup = new Object2ObjectOpenCustomHashMap<>(FLUID_STRATEGY);
   /** Maximum capacity of the smeltery */
   private int capacity;
   /** Current amount of fluid in the tank */
   @Getter
   private int contained;
+  /** Revision of the fluids last synced, used to validate delta updates on the client */
+  @Getter @Setter
+  private int revision = 0;
+  /** Copy of the fluids as of the last sync, used to build delta updates. Only used server side */
+  private final List<FluidStack> syncedFluids = new ArrayList<>();
+  /** Game time of the last resync request, to prevent a desynced client requesting a full sync on every delta. Only used client side */
+  private long lastResyncRequest = -RESYNC_COOLDOWN;
 
   public SmelteryTank(ISmelteryTankHandler parent) {
     fluids = Lists.newArrayList();
@@ -39,17 +79,55 @@ public class SmelteryTank implements IFluidHandler {
   }
 
   /**
-   * Called when the fluids change to sync to client
+   * Called when the fluids change to sync to client. Sends just the changes since the last sync
    */
   public void syncFluids() {
     TileEntity te = parent.getTileEntity();
     World world = te.getWorld();
     if (world != null && !world.isRemote) {
       BlockPos pos = te.getPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new SmelteryTankUpdatePacket(pos, fluids), world, pos);
+      // skip the client specific revisions when wrapping
+      int newRevision = revision == Integer.MAX_VALUE ? 0 : revision + 1;
+      SmelteryTankDeltaPacket packet = SmelteryTankDeltaPacket.create(pos, revision, newRevision, syncedFluids, fluids);
+      // fluids may have changed back to the synced state, nothing to send
+      if (packet.isEmpty()) {
+        return;
+      }
+      revision = newRevision;
+      TickCostTracker.packet(te);
+      TinkerNetwork.getInstance().sendToClientsAround(packet, world, pos);
+      syncedFluids.clear();
+      for (FluidStack fluid : fluids) {
+        syncedFluids.add(fluid.copy());
+      }
     }
   }
 
+  /**
+   * Sends the full tank contents to the given player, used when the client revision does not match
+   * @param player  Player to receive the fluids
+   */
+  public void sendFullSync(ServerPlayerEntity player) {
+    // send the fluids as of the last revision, any pending changes will come in the next delta
+    // if nothing was synced since loading, the next delta contains all fluids so the current state is fine
+    List<FluidStack> sent = revision == UNKNOWN_REVISION ? fluids : syncedFluids;
+    TinkerNetwork.getInstance().sendTo(new SmelteryTankUpdatePacket(parent.getTileEntity().getPos(), revision, sent), player);
+  }
+
+  /**
+   * Marks the tank as waiting on a full sync if enough time passed since the last request
+   * @param gameTime  Current world game time
+   * @return  True if a resync should be requested, false if one was requested too recently
+   */
+  public boolean tryRequestResync(long gameTime) {
+    if (gameTime - lastResyncRequest < RESYNC_COOLDOWN) {
+      return false;
+    }
+    lastResyncRequest = gameTime;
+    revision = RESYNC_REVISION;
+    return true;
+  }
+
 
   /* Capacity and space */
 
@@ -153,25 +231,81 @@ public class SmelteryTank implements IFluidHandler {
       return usable;
     }
 
+    // add the fluid and notify the parent
+    int count = fluids.size();
+    FluidStack fluid = addFluid(resource, usable);
+    parent.notifyFluidsChanged(fluids.size() > count ? FluidChange.ADDED : FluidChange.CHANGED, fluid);
+    return usable;
+  }
+
+  /**
+   * Fills multiple fluids at once, sending a single change notification. Used to commit the output of a full tick of melting
+   * @param resources  Fluids to fill, will be filled in order until the tank is full
+   * @return  Total amount filled
+   */
+  public int fillAll(List<FluidStack> resources) {
+    int filled = 0;
+    int addedCount = 0;
+    FluidStack lastAdded = FluidStack.EMPTY;
+    FluidStack lastChanged = FluidStack.EMPTY;
+    for (FluidStack resource : resources) {
+      int usable = Math.min(capacity - contained, resource.getAmount());
+      if (usable <= 0 || resource.isEmpty()) {
+        continue;
+      }
+      int count = fluids.size();
+      FluidStack fluid = addFluid(resource, usable);
+      if (fluids.size() > count) {
+        lastAdded = fluid;
+        addedCount++;
+      } else {
+        lastChanged = fluid;
+      }
+      filled += usable;
+    }
+    // adding a fluid takes priority as listeners may need to check new recipes, empty if multiple fluids were added
+    if (addedCount > 0) {
+      parent.notifyFluidsChanged(FluidChange.ADDED, addedCount == 1 ? lastAdded : FluidStack.EMPTY);
+    } else if (filled > 0) {
+      parent.notifyFluidsChanged(FluidChange.CHANGED, lastChanged);
+    }
+    return filled;
+  }
+
+  /**
+   * Adds the given fluid to the tank without notifying the parent
+   * @param resource  Fluid to add
+   * @param usable    Amount of the fluid to add, should already be validated against the capacity
+   * @return  Fluid stack contained in the tank after adding
+   */
+  private FluidStack addFluid(FluidStack resource, int usable) {
     // add contained fluid amount
     contained += usable;
 
     // check if we already have the given liquid
-    for (FluidStack fluid : fluids) {
-      if (fluid.isFluidEqual(resource)) {
-        // yup. add it
-        fluid.grow(usable);
-        parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
-        return usable;
-      }
+    FluidStack fluid = findFluid(resource);
+    if (fluid != null) {
+      // yup. add it
+      fluid.grow(usable);
+      return fluid;
     }
 
     // not present yet, add it
     resource = resource.copy();
     resource.setAmount(usable);
     fluids.add(resource);
-    parent.notifyFluidsChanged(FluidChange.ADDED, resource);
-    return usable;
+    fluidLookup.put(resource, resource);
+    return resource;
+  }
+
+  /**
+   * Finds the contained stack matching the given fluid and NBT
+   * @param resource  Fluid to find
+   * @return  Contained fluid stack, or null if not present
+   */
+  @Nullable
+  private FluidStack findFluid(FluidStack resource) {
+    return fluidLookup.get(resource);
   }
 
   @Override
@@ -190,11 +324,15 @@ public class SmelteryTank implements IFluidHandler {
 
     // remove the fluid from the tank
     if (action.execute()) {
+      // if emptying, remove from the list before shrinking, as an empty stack no longer reports its fluid to the lookup
+      boolean removed = drainable >= fluid.getAmount();
+      if (removed) {
+        fluids.remove(0);
+        fluidLookup.remove(fluid);
+      }
       fluid.shrink(drainable);
       contained -= drainable;
-      // if now empty, remove from the list
-      if (fluid.getAmount() <= 0) {
-        fluids.remove(fluid);
+      if (removed) {
         parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
       } else {
         parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
@@ -208,38 +346,62 @@ public class SmelteryTank implements IFluidHandler {
   @Override
   public FluidStack drain(FluidStack toDrain, FluidAction action) {
     // search for the resource
-    ListIterator<FluidStack> iter = fluids.listIterator();
-    while (iter.hasNext()) {
-      FluidStack fluid = iter.next();
-      if (fluid.isFluidEqual(toDrain)) {
-        // if found, determine how much we can drain
-        int drainable = Math.min(toDrain.getAmount(), fluid.getAmount());
-
-        // copy contained fluid to return for accuracy
-        FluidStack ret = fluid.copy();
-        ret.setAmount(drainable);
-
-        // update tank if executing
-        if (action.execute()) {
-          fluid.shrink(drainable);
-          contained -= drainable;
-          // if now empty, remove from the list
-          if (fluid.getAmount() <= 0) {
-            iter.remove();
-            parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
-          } else {
-            parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
-          }
-        }
-
-        return ret;
+    FluidStack fluid = toDrain.isEmpty() ? null : findFluid(toDrain);
+    if (fluid == null) {
+      // nothing drained
+      return FluidStack.EMPTY;
+    }
+
+    // if found, determine how much we can drain
+    int drainable = Math.min(toDrain.getAmount(), fluid.getAmount());
+
+    // copy contained fluid to return for accuracy
+    FluidStack ret = fluid.copy();
+    ret.setAmount(drainable);
+
+    // update tank if executing
+    if (action.execute()) {
+      // if emptying, remove from the list before shrinking, as an empty stack no longer reports its fluid to the lookup
+      boolean removed = drainable >= fluid.getAmount();
+      if (removed) {
+        removeFluid(fluid);
+      }
+      fluid.shrink(drainable);
+      contained -= drainable;
+      if (removed) {
+        parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
+      } else {
+        parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
+      }
+    }
+
+    return ret;
+  }
+
+  /**
+   * Removes the given stack from the fluid list
+   * @param fluid  Fluid stack instance contained in the tank
+   */
+  private void removeFluid(FluidStack fluid) {
+    fluidLookup.remove(fluid);
+    // compare by identity, fluid equality would match the same stack anyways as there are no duplicates
+    for (int i = 0; i < fluids.size(); i++) {
+      if (fluids.get(i) == fluid) {
+        fluids.remove(i);
+        return;
       }
     }
+  }
 
-    // nothing drained
-    return FluidStack.EMPTY;
+  /** Rebuilds the fluid lookup after replacing the fluid list */
+  private void rebuildLookup() {
+    fluidLookup.clear();
+    for (FluidStack fluid : fluids) {
+      fluidLookup.put(fluid, fluid);
+    }
   }
 
+
   /* Saving and loading */
 
   private static final String TAG_FLUIDS = "fluids";
@@ -253,6 +415,7 @@ public class SmelteryTank implements IFluidHandler {
     FluidStack oldFirst = getFluidInTank(0);
     this.fluids.clear();
     this.fluids.addAll(fluids);
+    rebuildLookup();
     contained = fluids.stream().mapToInt(FluidStack::getAmount).reduce(0, Integer::sum);
     FluidStack newFirst = getFluidInTank(0);
     if (!oldFirst.isFluidEqual(newFirst)) {
@@ -276,13 +439,18 @@ public class SmelteryTank implements IFluidHandler {
   /** Reads the tank from NBT */
   public void read(CompoundNBT tag) {
     ListNBT list = tag.getList(TAG_FLUIDS, NBT.TAG_COMPOUND);
+    // start a new revision history, the next delta will contain all fluids
+    revision = UNKNOWN_REVISION;
+    syncedFluids.clear();
     fluids.clear();
+    fluidLookup.clear();
     contained = 0;
     for (int i = 0; i < list.size(); i++) {
       CompoundNBT fluidTag = list.getCompound(i);
       FluidStack fluid = FluidStack.loadFluidStackFromNBT(fluidTag);
       if (!fluid.isEmpty()) {
         fluids.add(fluid);
+        fluidLookup.put(fluid, fluid);
         contained += fluid.getAmount();
       }
     }
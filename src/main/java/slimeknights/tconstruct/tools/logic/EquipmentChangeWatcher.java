@@ -24,6 +24,7 @@ import net.minecraftforge.fml.loading.FMLEnvironment;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.events.ToolEquipmentChangeEvent;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.context.EquipmentChangeContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.tools.logic.EquipmentChangeWatcher.PlayerLastEquipment;
@@ -97,7 +98,7 @@ public class EquipmentChangeWatcher implements Capability.IStorage<PlayerLastEqu
     // first, fire event to notify an item was removed
     IModifierToolStack tool = context.getOriginalTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.UNEQUIP)) {
         entry.getModifier().onUnequip(tool, entry.getLevel(), context);
       }
     }
@@ -105,7 +106,7 @@ public class EquipmentChangeWatcher implements Capability.IStorage<PlayerLastEqu
     // next, fire event to notify an item was added
     tool = context.getReplacementTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHook.EQUIP)) {
         entry.getModifier().onEquip(tool, entry.getLevel(), context);
       }
     }
@@ -115,7 +116,7 @@ public class EquipmentChangeWatcher implements Capability.IStorage<PlayerLastEqu
       if (otherSlot != changedSlot) {
         tool = context.getToolInSlot(otherSlot);
         if (tool != null) {
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : tool.getModifierList(ModifierHook.EQUIPMENT_CHANGE)) {
             entry.getModifier().onEquipmentChange(tool, entry.getLevel(), context, otherSlot);
           }
         }
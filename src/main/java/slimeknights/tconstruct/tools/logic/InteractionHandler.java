@@ -26,6 +26,7 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.modifiers.hooks.IArmorInteractModifier;
 import slimeknights.tconstruct.library.tools.helper.ToolAttackUtil;
 import slimeknights.tconstruct.library.tools.item.IModifiableWeapon;
@@ -64,7 +65,7 @@ public class InteractionHandler {
     // actual interaction hook
     ToolStack tool = ToolStack.from(stack);
     Entity target = event.getTarget();
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.BEFORE_ENTITY_USE)) {
       // exit on first successful result
       ActionResultType result = entry.getModifier().beforeEntityUse(tool, entry.getLevel(), player, target, hand, slotType);
       if (result.isSuccessOrConsume()) {
@@ -99,7 +100,7 @@ public class InteractionHandler {
         // after entity use for chestplates
         if (target instanceof LivingEntity) {
           LivingEntity livingTarget = (LivingEntity) target;
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : tool.getModifierList(ModifierHook.AFTER_ENTITY_USE)) {
             // exit on first successful result
             result = entry.getModifier().afterEntityUse(tool, entry.getLevel(), player, livingTarget, hand, EquipmentSlotType.CHEST);
             if (result.isSuccessOrConsume()) {
@@ -119,7 +120,7 @@ public class InteractionHandler {
   }
 
   /** Runs one of the two blockUse hooks for a chestplate */
-  private static ActionResultType onBlockUse(ItemUseContext context, IModifierToolStack tool, ItemStack stack, Function<ModifierEntry, ActionResultType> callback) {
+  private static ActionResultType onBlockUse(ItemUseContext context, IModifierToolStack tool, ItemStack stack, ModifierHook hook, Function<ModifierEntry, ActionResultType> callback) {
     PlayerEntity player = context.getPlayer();
     CachedBlockInfo cachedblockinfo = new CachedBlockInfo(context.getWorld(), context.getPos(), false);
     if (player != null && !player.abilities.allowEdit && !stack.canPlaceOn(context.getWorld().getTags(), cachedblockinfo)) {
@@ -127,7 +128,7 @@ public class InteractionHandler {
     }
 
     // run modifier hook
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(hook)) {
       ActionResultType result = callback.apply(entry);
       if (result.isSuccessOrConsume()) {
         if (player != null) {
@@ -158,7 +159,7 @@ public class InteractionHandler {
 
         // first, before block use (in forge, onItemUseFirst)
         if (event.getUseItem() != Result.DENY) {
-          ActionResultType result = onBlockUse(context, tool, chestplate, entry -> entry.getModifier().beforeBlockUse(tool, entry.getLevel(), context, EquipmentSlotType.CHEST));
+          ActionResultType result = onBlockUse(context, tool, chestplate, ModifierHook.BEFORE_BLOCK_USE, entry -> entry.getModifier().beforeBlockUse(tool, entry.getLevel(), context, EquipmentSlotType.CHEST));
           if (result.isSuccessOrConsume()) {
             event.setCanceled(true);
             event.setCancellationResult(result);
@@ -190,7 +191,7 @@ public class InteractionHandler {
 
         if (useItem != Result.DENY && (useItem == Result.ALLOW || !player.getCooldownTracker().hasCooldown(chestplate.getItem()))) {
           // finally, after block use (in forge, onItemUse)
-          ActionResultType result = onBlockUse(context, tool, chestplate, entry -> entry.getModifier().afterBlockUse(tool, entry.getLevel(), context, EquipmentSlotType.CHEST));
+          ActionResultType result = onBlockUse(context, tool, chestplate, ModifierHook.AFTER_BLOCK_USE, entry -> entry.getModifier().afterBlockUse(tool, entry.getLevel(), context, EquipmentSlotType.CHEST));
           if (result.isSuccessOrConsume()) {
             event.setCanceled(true);
             event.setCancellationResult(result);
@@ -219,7 +220,7 @@ public class InteractionHandler {
     // first, run the modifier hook
     ToolStack tool = ToolStack.from(chestplate);
     World world = player.getEntityWorld();
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHook.TOOL_USE)) {
       ActionResultType result = entry.getModifier().onToolUse(tool, entry.getLevel(), world, player, hand, EquipmentSlotType.CHEST);
       if (result.isSuccessOrConsume()) {
         return result;
@@ -12,6 +12,7 @@ import net.minecraftforge.common.loot.GlobalLootModifierSerializer;
 import net.minecraftforge.common.loot.LootModifier;
 import slimeknights.mantle.loot.builder.GenericLootModifierBuilder;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.library.tools.helper.ModifierLootingHandler;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.tools.TinkerModifiers;
@@ -47,7 +48,7 @@ public class ModifierLootModifier extends LootModifier {
     if (stack != null) {
       ToolStack tool = ToolStack.from(stack);
       if (!tool.isBroken()) {
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHook.PROCESS_LOOT)) {
           generatedLoot = entry.getModifier().processLoot(tool, entry.getLevel(), generatedLoot, context);
         }
       }
@@ -10,12 +10,12 @@ import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidStack;
 import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.modifiers.TankModifier;
+import slimeknights.tconstruct.library.recipe.EntityRecipeLookup;
 import slimeknights.tconstruct.library.recipe.FluidValues;
-import slimeknights.tconstruct.library.recipe.RecipeTypes;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
-import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingInventory;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 import slimeknights.tconstruct.smeltery.tileentity.module.EntityMeltingModule;
@@ -53,7 +53,7 @@ public class MeltingModifier extends TankModifier {
     // first, update inventory
     IMeltingRecipe recipe = lastRecipe;
     if (recipe == null || !recipe.matches(inventory, world)) {
-      recipe = world.getRecipeManager().getRecipe(RecipeTypes.MELTING, inventory, world).orElse(null);
+      recipe = MeltingRecipeLookup.findRecipe(inventory, world);
       if (recipe == null) {
         inventory.setStack(ItemStack.EMPTY);
         return FluidStack.EMPTY;
@@ -114,7 +114,7 @@ public class MeltingModifier extends TankModifier {
       // first, find the proper recipe
       LivingEntity target = context.getLivingTarget();
       if (target != null) {
-        EntityMeltingRecipe recipe = EntityMeltingRecipeCache.findRecipe(context.getAttacker().getEntityWorld().getRecipeManager(), target.getType());
+        EntityMeltingRecipe recipe = EntityRecipeLookup.findMeltingRecipe(context.getAttacker().getEntityWorld().getRecipeManager(), target.getType());
         FluidStack output;
         int damagePerOutput;
         if (recipe != null) {
@@ -7,8 +7,8 @@ import net.minecraft.loot.LootParameters;
 import net.minecraftforge.common.Tags;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.modifiers.Modifier;
+import slimeknights.tconstruct.library.recipe.EntityRecipeLookup;
 import slimeknights.tconstruct.library.recipe.modifiers.severing.SeveringRecipe;
-import slimeknights.tconstruct.library.recipe.modifiers.severing.SeveringRecipeCache;
 import slimeknights.tconstruct.library.tools.nbt.IModifierToolStack;
 
 import java.util.List;
@@ -32,7 +32,7 @@ public class SeveringModifier extends Modifier {
       // ensure no head so far
       if (generatedLoot.stream().noneMatch(stack -> Tags.Items.HEADS.contains(stack.getItem()))) {
         // find proper recipe
-        List<SeveringRecipe> recipes = SeveringRecipeCache.findRecipe(context.getWorld().getRecipeManager(), entity.getType());
+        List<SeveringRecipe> recipes = EntityRecipeLookup.findSeveringRecipes(context.getWorld().getRecipeManager(), entity.getType());
         if (!recipes.isEmpty()) {
           // 5% chance per level, bonus 5% per level of looting
           float chance = (level + context.getLootingModifier()) * 0.05f;
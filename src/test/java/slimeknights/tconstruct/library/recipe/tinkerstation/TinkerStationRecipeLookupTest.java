@@ -0,0 +1,69 @@
+package slimeknights.tconstruct.library.recipe.tinkerstation;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.util.ResourceLocation;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.recipe.SizedIngredient;
+import slimeknights.tconstruct.fixture.MaterialFixture;
+import slimeknights.tconstruct.fixture.MaterialItemFixture;
+import slimeknights.tconstruct.fixture.ModifierFixture;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.recipe.ingredient.MaterialIngredient;
+import slimeknights.tconstruct.library.recipe.modifiers.ModifierMatch;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.ModifierRecipe;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class TinkerStationRecipeLookupTest extends BaseMcTest {
+  @BeforeAll
+  static void beforeAll() {
+    MaterialItemFixture.init();
+    ModifierFixture.init();
+  }
+
+  /** Creates a modifier recipe for a diamond pickaxe with the given input */
+  private static ModifierRecipe recipe(String name, SizedIngredient input) {
+    return new ModifierRecipe(new ResourceLocation("test", name), Collections.singletonList(input), Ingredient.fromItems(Items.DIAMOND_PICKAXE),
+                              ModifierMatch.ALWAYS, "", new ModifierEntry(ModifierFixture.TEST_MODIFIER_1, 1), 1, null);
+  }
+
+  /** Creates an inventory with a diamond pickaxe and the given input */
+  private static ITinkerStationInventory inventory(ItemStack input) {
+    ITinkerStationInventory inv = mock(ITinkerStationInventory.class);
+    doReturn(new ItemStack(Items.DIAMOND_PICKAXE)).when(inv).getTinkerableStack();
+    doReturn(1).when(inv).getInputCount();
+    doReturn(input).when(inv).getInput(0);
+    return inv;
+  }
+
+  @Test
+  void getCandidates_simpleInput_filteredByItem() {
+    ModifierRecipe recipe = recipe("simple", SizedIngredient.of(Ingredient.fromItems(Items.DIAMOND)));
+    assertThat(recipe.getInputItems()).containsExactly(Items.DIAMOND);
+
+    List<ITinkerStationRecipe> recipes = Collections.singletonList(recipe);
+    assertThat(TinkerStationRecipeLookup.getCandidates(recipes, inventory(new ItemStack(Items.DIAMOND)))).containsExactly(recipe);
+    assertThat(TinkerStationRecipeLookup.getCandidates(recipes, inventory(new ItemStack(Items.EMERALD)))).isEmpty();
+  }
+
+  @Test
+  void getCandidates_nbtInput_alwaysCandidate() {
+    ModifierRecipe simple = recipe("simple", SizedIngredient.of(Ingredient.fromItems(Items.DIAMOND)));
+    ModifierRecipe material = recipe("material", SizedIngredient.of(MaterialIngredient.fromItem(MaterialItemFixture.MATERIAL_ITEM, MaterialFixture.MATERIAL_1.getIdentifier())));
+    assertThat(material.getInputItems()).isNull();
+
+    List<ITinkerStationRecipe> recipes = Arrays.asList(simple, material);
+    assertThat(TinkerStationRecipeLookup.getCandidates(recipes, inventory(new ItemStack(MaterialItemFixture.MATERIAL_ITEM)))).containsExactly(material);
+    assertThat(TinkerStationRecipeLookup.getCandidates(recipes, inventory(new ItemStack(Items.DIAMOND)))).containsExactly(simple, material);
+  }
+}
@@ -1,11 +1,17 @@
 package slimeknights.tconstruct.library.tools.nbt;
 
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.INBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.world.World;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.fixture.ModifierFixture;
+import slimeknights.tconstruct.library.modifiers.Modifier;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.modifiers.ModifierHook;
 import slimeknights.tconstruct.test.BaseMcTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -98,6 +104,21 @@ class ModifierNBTest extends BaseMcTest {
     assertThat(modifierNBT.getLevel(ModifierFixture.TEST_MODIFIER_2)).isEqualTo(3);
   }
 
+  @Test
+  void hookModifiers_onlyOverriding() {
+    Modifier ticking = new Modifier(-1) {
+      @Override
+      public void onInventoryTick(IModifierToolStack tool, int level, World world, LivingEntity holder, int itemSlot, boolean isSelected, boolean isCorrectSlot, ItemStack stack) {}
+    };
+    ModifierNBT.Builder builder = ModifierNBT.builder();
+    builder.add(ModifierFixture.TEST_MODIFIER_1, 1);
+    builder.add(ticking, 2);
+    ModifierNBT modifierNBT = builder.build();
+
+    assertThat(modifierNBT.getModifiers(ModifierHook.INVENTORY_TICK)).containsExactly(new ModifierEntry(ticking, 2));
+    assertThat(modifierNBT.getModifiers(ModifierHook.ENTITY_DAMAGE)).isEmpty();
+  }
+
   @Test
   void deserializeNoData_empty() {
     ListNBT nbt = new ListNBT();
@@ -434,4 +434,28 @@ class ToolStackTest extends ToolItemTest {
     assertThat(toolStack.getVolatileData()).isNotEqualTo(volatileData);
     assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(2);
   }
+
+  @Test
+  void rebuildStats_reusesUnchangedModifiers() {
+    ToolStack toolStack = ToolStack.from(tool, tool.getToolDefinition(), new CompoundNBT());
+    toolStack.setMaterials(new MaterialNBT(Arrays.asList(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA)));
+    ModifierNBT modifiers = toolStack.getModifiers();
+    StatsNBT stats = toolStack.getStats();
+
+    toolStack.rebuildStats();
+    assertThat(toolStack.getModifiers()).isSameAs(modifiers);
+    assertThat(toolStack.getStats()).isEqualTo(stats);
+  }
+
+  @Test
+  void addModifier_afterRebuild_refreshesModifiers() {
+    ToolStack toolStack = ToolStack.from(tool, tool.getToolDefinition(), new CompoundNBT());
+    toolStack.setMaterials(new MaterialNBT(Arrays.asList(MaterialFixture.MATERIAL_WITH_HEAD, MaterialFixture.MATERIAL_WITH_HANDLE, MaterialFixture.MATERIAL_WITH_EXTRA)));
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(0);
+
+    toolStack.addModifier(ModifierFixture.TEST_MODIFIER_1, 2);
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(2);
+    toolStack.removeModifier(ModifierFixture.TEST_MODIFIER_1, 1);
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_MODIFIER_1)).isEqualTo(1);
+  }
 }
@@ -0,0 +1,92 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Simple block world for cuboid multiblock tests, storing walls and solid inner blocks without a real world instance
+ */
+class CuboidFixture {
+  /** Block in the world, anything missing is air */
+  enum Block { WALL, INNER }
+
+  private final Map<BlockPos,Block> blocks = new HashMap<>();
+  final World world;
+  final TestCuboid cuboid;
+
+  CuboidFixture(boolean hasFloor, boolean hasFrame, boolean hasCeiling, int maxHeight, int innerLimit) {
+    // stub only, as benchmarks call the world far too often to record invocations
+    world = mock(World.class, withSettings().stubOnly());
+    when(world.getHeight()).thenReturn(256);
+    when(world.isBlockLoaded(any(BlockPos.class))).thenReturn(true);
+    when(world.isAreaLoaded(any(BlockPos.class), any(BlockPos.class))).thenReturn(true);
+    when(world.isAirBlock(any(BlockPos.class))).thenAnswer(invocation -> !blocks.containsKey(invocation.<BlockPos>getArgument(0)));
+    cuboid = new TestCuboid(hasFloor, hasFrame, hasCeiling, maxHeight, innerLimit);
+  }
+
+  /** Sets the block at the given position, null for air */
+  void set(BlockPos pos, Block block) {
+    if (block == null) {
+      blocks.remove(pos);
+    } else {
+      blocks.put(pos.toImmutable(), block);
+    }
+  }
+
+  /**
+   * Fills the box between the two positions with walls, leaving the inside hollow
+   * @param min     Min corner
+   * @param max     Max corner
+   * @param floor   If true, fill the bottom layer
+   * @param ceiling If true, fill the top layer
+   */
+  void buildWalls(BlockPos min, BlockPos max, boolean floor, boolean ceiling) {
+    for (int y = min.getY(); y <= max.getY(); y++) {
+      boolean cap = (floor && y == min.getY()) || (ceiling && y == max.getY());
+      for (int x = min.getX(); x <= max.getX(); x++) {
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+          if (cap || x == min.getX() || x == max.getX() || z == min.getZ() || z == max.getZ()) {
+            set(new BlockPos(x, y, z), Block.WALL);
+          }
+        }
+      }
+    }
+  }
+
+  /** Cuboid accepting walls for the structure, and both air and inner blocks inside */
+  class TestCuboid extends MultiblockCuboid<MultiblockStructureData> {
+    TestCuboid(boolean hasFloor, boolean hasFrame, boolean hasCeiling, int maxHeight, int innerLimit) {
+      super(hasFloor, hasFrame, hasCeiling, maxHeight, innerLimit);
+    }
+
+    @Override
+    protected boolean isValidBlock(World world, BlockPos pos, CuboidSide side, boolean isFrame) {
+      return blocks.get(pos) == Block.WALL;
+    }
+
+    @Override
+    public boolean isInnerBlock(World world, BlockPos pos) {
+      return blocks.get(pos) != Block.WALL;
+    }
+
+    @Override
+    public boolean shouldUpdate(World world, MultiblockStructureData structure, BlockPos pos, BlockState state) {
+      return true;
+    }
+
+    @Override
+    public MultiblockStructureData create(BlockPos min, BlockPos max, LongSet extraPos) {
+      return new MultiblockStructureData(min, max, extraPos, hasFloor, hasFrame, hasCeiling);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package slimeknights.tconstruct.smeltery.tileentity.multiblock;
+
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.utils.TagUtil;
+import slimeknights.tconstruct.smeltery.tileentity.multiblock.CuboidFixture.Block;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiblockCuboidTest extends BaseMcTest {
+  private static final BlockPos MIN = new BlockPos(0, 10, 0);
+  private static final BlockPos MAX = new BlockPos(6, 14, 6);
+  /** Controller in the north wall, facing away from the structure */
+  private static final BlockPos MASTER = new BlockPos(3, 12, 0);
+  private static final Direction FACING = Direction.NORTH;
+
+  private CuboidFixture fixture;
+  private MultiblockStructureData structure;
+
+  @BeforeEach
+  void setUp() {
+    fixture = new CuboidFixture(true, true, false, 64, 14);
+    fixture.buildWalls(MIN, MAX, true, false);
+    structure = fixture.cuboid.detectMultiblock(fixture.world, MASTER, FACING);
+    assertThat(structure).isNotNull();
+  }
+
+  /** Asserts the incremental result matches a full detection */
+  private void assertMatchesFull(MultiblockStructureData updated) {
+    MultiblockStructureData full = fixture.cuboid.detectMultiblock(fixture.world, MASTER, FACING);
+    assertThat(updated).isNotNull();
+    assertThat(full).isNotNull();
+    assertThat(updated.getMinPos()).isEqualTo(full.getMinPos());
+    assertThat(updated.getMaxPos()).isEqualTo(full.getMaxPos());
+    assertThat(updated.extra).containsExactlyInAnyOrderElementsOf(full.extra);
+  }
+
+  @Test
+  void update_outsideWalls_sameStructure() {
+    BlockPos changed = new BlockPos(10, 12, 3);
+    fixture.set(changed, Block.WALL);
+
+    assertThat(fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed)).isSameAs(structure);
+  }
+
+  @Test
+  void update_innerBlockAdded_patchesExtra() {
+    BlockPos changed = new BlockPos(2, 12, 3);
+    fixture.set(changed, Block.INNER);
+
+    MultiblockStructureData updated = fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed);
+    assertMatchesFull(updated);
+    assertThat(updated.contains(changed)).isTrue();
+  }
+
+  @Test
+  void update_innerBlockRemoved_patchesExtra() {
+    BlockPos changed = new BlockPos(2, 12, 3);
+    fixture.set(changed, Block.INNER);
+    fixture.set(new BlockPos(4, 13, 4), Block.INNER);
+    structure = fixture.cuboid.detectMultiblock(fixture.world, MASTER, FACING);
+    fixture.set(changed, null);
+
+    MultiblockStructureData updated = fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed);
+    assertMatchesFull(updated);
+    assertThat(updated.extra).containsExactly(new BlockPos(4, 13, 4).toLong());
+  }
+
+  @Test
+  void update_wallRemoved_shrinks() {
+    BlockPos changed = new BlockPos(6, 13, 3);
+    fixture.set(changed, null);
+
+    MultiblockStructureData updated = fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed);
+    assertMatchesFull(updated);
+    assertThat(updated.getMaxPos().getY()).isEqualTo(12);
+  }
+
+  @Test
+  void update_layerAbove_expands() {
+    fixture.buildWalls(new BlockPos(0, 15, 0), new BlockPos(6, 16, 6), false, false);
+
+    MultiblockStructureData updated = fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, new BlockPos(0, 15, 0));
+    assertMatchesFull(updated);
+    assertThat(updated.getMaxPos().getY()).isEqualTo(16);
+  }
+
+  @Test
+  void update_partialLayerAbove_sameStructure() {
+    BlockPos changed = new BlockPos(0, 15, 0);
+    fixture.set(changed, Block.WALL);
+
+    assertThat(fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed)).isSameAs(structure);
+  }
+
+  @Test
+  void update_floorBroken_invalid() {
+    BlockPos changed = new BlockPos(3, 10, 3);
+    fixture.set(changed, null);
+
+    assertThat(fixture.cuboid.updateMultiblock(fixture.world, MASTER, FACING, structure, changed)).isNull();
+  }
+
+  @Test
+  void nbt_extraPositions_roundTrip() {
+    fixture.set(new BlockPos(2, 12, 3), Block.INNER);
+    fixture.set(new BlockPos(4, 13, 4), Block.INNER);
+    structure = fixture.cuboid.detectMultiblock(fixture.world, MASTER, FACING);
+    assertThat(structure).isNotNull();
+
+    CompoundNBT nbt = structure.writeToNBT();
+    assertThat(nbt.getLongArray(MultiblockStructureData.TAG_EXTRA_POS)).hasSize(2);
+    MultiblockStructureData read = fixture.cuboid.readFromNBT(nbt);
+    assertThat(read).isNotNull();
+    assertThat(read.extra).containsExactlyInAnyOrderElementsOf(structure.extra);
+  }
+
+  @Test
+  void nbt_legacyPositionList_read() {
+    CompoundNBT nbt = structure.writeClientNBT();
+    ListNBT list = new ListNBT();
+    list.add(TagUtil.writePos(new BlockPos(2, 12, 3)));
+    nbt.put(MultiblockStructureData.TAG_EXTRA_POS, list);
+
+    MultiblockStructureData read = fixture.cuboid.readFromNBT(nbt);
+    assertThat(read).isNotNull();
+    assertThat(read.contains(new BlockPos(2, 12, 3))).isTrue();
+  }
+}
@@ -0,0 +1,277 @@
+package slimeknights.tconstruct.smeltery.tileentity.tank;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankDeltaPacket;
+import slimeknights.tconstruct.smeltery.tileentity.tank.ISmelteryTankHandler.FluidChange;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SmelteryTankTest extends BaseMcTest {
+  private ISmelteryTankHandler parent;
+  private SmelteryTank tank;
+
+  @BeforeEach
+  void setUp() {
+    parent = mock(ISmelteryTankHandler.class);
+    tank = new SmelteryTank(parent);
+    tank.setCapacity(1000);
+  }
+
+  /** Creates a fluid stack with NBT */
+  private static FluidStack withTag(FluidStack stack, String value) {
+    CompoundNBT nbt = new CompoundNBT();
+    nbt.putString("test", value);
+    stack.setTag(nbt);
+    return stack;
+  }
+
+  /** Asserts the fluids in the tank match the given fluids and amounts in order */
+  private void assertFluids(FluidStack... expected) {
+    assertThat(tank.getFluids()).hasSize(expected.length);
+    for (int i = 0; i < expected.length; i++) {
+      FluidStack fluid = tank.getFluidInTank(i);
+      assertThat(fluid.isFluidEqual(expected[i])).isTrue();
+      assertThat(fluid.getAmount()).isEqualTo(expected[i].getAmount());
+    }
+  }
+
+  @Test
+  void fill_newFluids_addedInOrder() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+
+    assertFluids(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+    assertThat(tank.getContained()).isEqualTo(300);
+    verify(parent).notifyFluidsChanged(FluidChange.ADDED, tank.getFluidInTank(1));
+  }
+
+  @Test
+  void fill_existingFluid_mergesInPlace() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.WATER, 50), FluidAction.EXECUTE);
+
+    assertFluids(new FluidStack(Fluids.WATER, 150), new FluidStack(Fluids.LAVA, 200));
+    // listeners receive the stored fluid with the new total
+    verify(parent).notifyFluidsChanged(eq(FluidChange.CHANGED), same(tank.getFluidInTank(0)));
+  }
+
+  @Test
+  void fill_differentNBT_separateFluids() {
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 100), "b"), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE);
+
+    assertFluids(withTag(new FluidStack(Fluids.WATER, 200), "a"), withTag(new FluidStack(Fluids.WATER, 100), "b"));
+  }
+
+  @Test
+  void fill_overCapacity_partial() {
+    tank.fill(new FluidStack(Fluids.WATER, 800), FluidAction.EXECUTE);
+
+    assertThat(tank.fill(new FluidStack(Fluids.LAVA, 500), FluidAction.SIMULATE)).isEqualTo(200);
+    assertThat(tank.getFluids()).hasSize(1);
+    assertThat(tank.fill(new FluidStack(Fluids.LAVA, 500), FluidAction.EXECUTE)).isEqualTo(200);
+    assertFluids(new FluidStack(Fluids.WATER, 800), new FluidStack(Fluids.LAVA, 200));
+  }
+
+  @Test
+  void drain_amount_drainsBottomFluid() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+
+    FluidStack drained = tank.drain(150, FluidAction.EXECUTE);
+    assertThat(drained.isFluidEqual(new FluidStack(Fluids.WATER, 1))).isTrue();
+    assertThat(drained.getAmount()).isEqualTo(100);
+    assertFluids(new FluidStack(Fluids.LAVA, 200));
+
+    // removed fluid is added back on top
+    tank.fill(new FluidStack(Fluids.WATER, 10), FluidAction.EXECUTE);
+    assertFluids(new FluidStack(Fluids.LAVA, 200), new FluidStack(Fluids.WATER, 10));
+  }
+
+  @Test
+  void drain_fluid_keepsOrder() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 300), "a"), FluidAction.EXECUTE);
+
+    FluidStack drained = tank.drain(new FluidStack(Fluids.LAVA, 50), FluidAction.EXECUTE);
+    assertThat(drained.getAmount()).isEqualTo(50);
+    assertFluids(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 150), withTag(new FluidStack(Fluids.WATER, 300), "a"));
+
+    drained = tank.drain(new FluidStack(Fluids.LAVA, 500), FluidAction.EXECUTE);
+    assertThat(drained.getAmount()).isEqualTo(150);
+    assertFluids(new FluidStack(Fluids.WATER, 100), withTag(new FluidStack(Fluids.WATER, 300), "a"));
+    assertThat(tank.getContained()).isEqualTo(400);
+  }
+
+  @Test
+  void drain_toEmpty_removedFromLookup() {
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+
+    tank.drain(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE);
+    tank.drain(50, FluidAction.EXECUTE);
+    assertFluids(new FluidStack(Fluids.LAVA, 150));
+    assertThat(tank.drain(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE).isEmpty()).isTrue();
+
+    // draining the bottom fluid entirely also removes it from the lookup
+    tank.drain(150, FluidAction.EXECUTE);
+    assertThat(tank.drain(new FluidStack(Fluids.LAVA, 100), FluidAction.EXECUTE).isEmpty()).isTrue();
+    tank.fill(new FluidStack(Fluids.LAVA, 10), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 20), "a"), FluidAction.EXECUTE);
+    assertFluids(new FluidStack(Fluids.LAVA, 10), withTag(new FluidStack(Fluids.WATER, 20), "a"));
+  }
+
+  @Test
+  void drain_missingFluid_empty() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+
+    assertThat(tank.drain(new FluidStack(Fluids.LAVA, 100), FluidAction.EXECUTE).isEmpty()).isTrue();
+    assertThat(tank.drain(withTag(new FluidStack(Fluids.WATER, 100), "a"), FluidAction.EXECUTE).isEmpty()).isTrue();
+    assertFluids(new FluidStack(Fluids.WATER, 100));
+  }
+
+  @Test
+  void drain_simulate_unchanged() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+
+    assertThat(tank.drain(new FluidStack(Fluids.WATER, 100), FluidAction.SIMULATE).getAmount()).isEqualTo(100);
+    assertFluids(new FluidStack(Fluids.WATER, 100));
+  }
+
+  @Test
+  void moveFluidToBottom_reordersAndStillMerges() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 300), "a"), FluidAction.EXECUTE);
+
+    tank.moveFluidToBottom(2);
+    assertFluids(withTag(new FluidStack(Fluids.WATER, 300), "a"), new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+
+    tank.fill(new FluidStack(Fluids.LAVA, 10), FluidAction.EXECUTE);
+    tank.drain(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    assertFluids(withTag(new FluidStack(Fluids.WATER, 300), "a"), new FluidStack(Fluids.LAVA, 210));
+  }
+
+  @Test
+  void fillAll_mergesAndAddsInOrder() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+
+    int filled = tank.fillAll(Arrays.asList(new FluidStack(Fluids.LAVA, 200), new FluidStack(Fluids.WATER, 50)));
+    assertThat(filled).isEqualTo(250);
+    assertFluids(new FluidStack(Fluids.WATER, 150), new FluidStack(Fluids.LAVA, 200));
+  }
+
+  @Test
+  void fillAll_existingFluid_notifiesStored() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+
+    tank.fillAll(Arrays.asList(new FluidStack(Fluids.WATER, 50)));
+    verify(parent).notifyFluidsChanged(eq(FluidChange.CHANGED), same(tank.getFluidInTank(0)));
+    assertThat(tank.getFluidInTank(0).getAmount()).isEqualTo(150);
+  }
+
+  @Test
+  void fillAll_multipleAdded_notifiesEmpty() {
+    tank.fillAll(Arrays.asList(new FluidStack(Fluids.LAVA, 200), new FluidStack(Fluids.WATER, 50)));
+    verify(parent).notifyFluidsChanged(FluidChange.ADDED, FluidStack.EMPTY);
+  }
+
+  @Test
+  void readWrite_keepsOrderAndLookup() {
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+
+    SmelteryTank read = new SmelteryTank(parent);
+    read.read(tank.write(new CompoundNBT()));
+    tank = read;
+    assertFluids(new FluidStack(Fluids.LAVA, 200), new FluidStack(Fluids.WATER, 100));
+    assertThat(tank.getCapacity()).isEqualTo(1000);
+
+    tank.fill(new FluidStack(Fluids.LAVA, 10), FluidAction.EXECUTE);
+    assertFluids(new FluidStack(Fluids.LAVA, 210), new FluidStack(Fluids.WATER, 100));
+  }
+
+  @Test
+  void tryRequestResync_rateLimited() {
+    assertThat(tank.tryRequestResync(100)).isTrue();
+    assertThat(tank.getRevision()).isEqualTo(SmelteryTank.RESYNC_REVISION);
+    assertThat(tank.tryRequestResync(110)).isFalse();
+    assertThat(tank.tryRequestResync(120)).isTrue();
+  }
+
+  /** Copies the current tank fluids, as a snapshot of the last sync */
+  private List<FluidStack> snapshot() {
+    List<FluidStack> fluids = new ArrayList<>();
+    for (FluidStack fluid : tank.getFluids()) {
+      fluids.add(fluid.copy());
+    }
+    return fluids;
+  }
+
+  /** Sends the delta from the previous fluids to the current tank contents through a buffer */
+  private SmelteryTankDeltaPacket delta(List<FluidStack> previous) {
+    PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+    SmelteryTankDeltaPacket.create(BlockPos.ZERO, 0, 1, previous, tank.getFluids()).encode(buffer);
+    return new SmelteryTankDeltaPacket(buffer);
+  }
+
+  @Test
+  void delta_unchangedFluid_omitted() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    List<FluidStack> previous = snapshot();
+
+    tank.fill(new FluidStack(Fluids.LAVA, 50), FluidAction.EXECUTE);
+    SmelteryTankDeltaPacket packet = delta(previous);
+    assertThat(packet.hasAmountChange(0)).isFalse();
+    assertThat(packet.hasAmountChange(1)).isTrue();
+    List<FluidStack> applied = packet.apply(previous);
+    assertThat(applied).isNotNull();
+    tank.setFluids(applied);
+    assertFluids(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 250));
+  }
+
+  @Test
+  void delta_noChanges_empty() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    assertThat(delta(snapshot()).isEmpty()).isTrue();
+  }
+
+  @Test
+  void delta_removedAddedAndReordered() {
+    tank.fill(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(new FluidStack(Fluids.LAVA, 200), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.WATER, 300), "a"), FluidAction.EXECUTE);
+    List<FluidStack> previous = snapshot();
+
+    tank.drain(new FluidStack(Fluids.WATER, 100), FluidAction.EXECUTE);
+    tank.fill(withTag(new FluidStack(Fluids.LAVA, 40), "b"), FluidAction.EXECUTE);
+    tank.moveFluidToBottom(1);
+    List<FluidStack> expected = snapshot();
+
+    List<FluidStack> applied = delta(previous).apply(previous);
+    assertThat(applied).isNotNull();
+    tank.setFluids(applied);
+    assertFluids(expected.toArray(new FluidStack[0]));
+  }
+}